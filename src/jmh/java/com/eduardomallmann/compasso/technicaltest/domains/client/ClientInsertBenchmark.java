@@ -0,0 +1,109 @@
+package com.eduardomallmann.compasso.technicaltest.domains.client;
+
+import com.eduardomallmann.compasso.technicaltest.TechnicalTestApplication;
+import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientBulkResponse;
+import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientRequest;
+import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientResponse;
+import com.eduardomallmann.compasso.technicaltest.utils.HiLoSequenceGenerator;
+import com.eduardomallmann.compasso.technicaltest.utils.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link Client} insert throughput of the single and bulk creation, with and without identifier blocks.
+ * <p>An increment size of one makes a sequence call for each insert, as the previous {@code allocationSize = 1} mapping did.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ClientInsertBenchmark {
+
+    private static final int BULK_SIZE = 1_000;
+
+    @Param({"1", "50"})
+    public int incrementSize;
+
+    private ConfigurableApplicationContext context;
+    private ClientService clientService;
+    private ClientRepository clientRepository;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(TechnicalTestApplication.class)
+                               .web(WebApplicationType.NONE)
+                               .logStartupInfo(false)
+                               .run("--spring.jpa.properties." + HiLoSequenceGenerator.INCREMENT_SIZE_SETTING + "=" + this.incrementSize,
+                                    "--logging.level.com.eduardomallmann.compasso.technicaltest=warn",
+                                    "--logging.level.org.springframework.data=warn");
+        this.clientService = this.context.getBean(ClientService.class);
+        this.clientRepository = this.context.getBean(ClientRepository.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clean() {
+        this.clientRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public Response<ClientResponse> singleInsert() throws Exception {
+        return this.clientService.save(new ClientRequest(this.nextName(), "female", LocalDate.of(1980, 1, 2), "Joinville", "Santa Catarina")).join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_SIZE)
+    public ClientBulkResponse bulkInsert() throws Exception {
+        final StringBuilder body = new StringBuilder(BULK_SIZE * 96);
+        for (int i = 0; i < BULK_SIZE; i++) {
+            body.append("{\"name\":\"").append(this.nextName())
+                    .append("\",\"birthday\":\"1980-01-02\",\"city\":\"Joinville\",\"state\":\"Santa Catarina\"}\n");
+        }
+        return this.clientService.saveAll(new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Builds a full name with two words never used before, so the in-memory name index doesn't grow long postings along the benchmark.
+     *
+     * @return a new full name.
+     */
+    private String nextName() {
+        final StringBuilder word = new StringBuilder();
+        long value = this.sequence++;
+        do {
+            word.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        return "a".concat(word.toString()).concat(" b").concat(word.toString());
+    }
+}
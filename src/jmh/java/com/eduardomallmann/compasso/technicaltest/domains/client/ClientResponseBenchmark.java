@@ -0,0 +1,71 @@
+package com.eduardomallmann.compasso.technicaltest.domains.client;
+
+import com.eduardomallmann.compasso.technicaltest.domains.city.City;
+import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientRequest;
+import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link ClientResponse} creation and its Json writing, from a {@link Client} register with its display form persisted and from one
+ * without it, which is normalized on the way.
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientResponseBenchmark {
+
+    private Client persisted;
+    private Client notPersisted;
+    private ClientResponse response;
+    private ClientRequest request;
+
+    @Setup
+    public void setUp() {
+        this.notPersisted = new Client("maria das graças da silva", "female", LocalDate.of(1980, 2, 1), new City("são josé dos pinhais", "paraná"));
+        this.notPersisted.setId(1L);
+        this.persisted = new Client("maria das graças da silva", "female", LocalDate.of(1980, 2, 1), new City("são josé dos pinhais", "paraná"));
+        this.persisted.setId(1L);
+        this.persisted.normalizeDisplay();
+        this.persisted.getCity().normalizeDisplay();
+        this.response = new ClientResponse(this.persisted);
+        this.request = new ClientRequest("Maria das Graças da Silva", "female", LocalDate.of(1980, 2, 1), "São José dos Pinhais", "Paraná");
+    }
+
+    @Benchmark
+    public ClientResponse fromDisplayForm() {
+        return new ClientResponse(this.persisted);
+    }
+
+    @Benchmark
+    public ClientResponse fromLowerCased() {
+        return new ClientResponse(this.notPersisted);
+    }
+
+    @Benchmark
+    public String responseToJson() {
+        return this.response.toJson();
+    }
+
+    @Benchmark
+    public String requestToJson() {
+        return this.request.toJson();
+    }
+}
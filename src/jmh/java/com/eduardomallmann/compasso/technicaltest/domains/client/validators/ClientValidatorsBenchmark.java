@@ -0,0 +1,52 @@
+package com.eduardomallmann.compasso.technicaltest.domains.client.validators;
+
+import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link FullNameValidator} and {@link ClientCityValidator} checks run on every client creation request.
+ * <p>Only valid values are checked, as the invalid ones are logged.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientValidatorsBenchmark {
+
+    private final FullNameValidator fullNameValidator = new FullNameValidator();
+    private final ClientCityValidator clientCityValidator = new ClientCityValidator();
+    private final ClientRequest withCity = new ClientRequest("Maria das Graças da Silva", "female", LocalDate.of(1980, 2, 1), "Joinville",
+                                                             "Santa Catarina");
+    private final ClientRequest withoutCity = new ClientRequest("Maria das Graças da Silva", "female", LocalDate.of(1980, 2, 1), null, null);
+
+    @Benchmark
+    public boolean fullName() {
+        return this.fullNameValidator.isValid(this.withCity.getName(), null);
+    }
+
+    @Benchmark
+    public boolean clientCity() {
+        return this.clientCityValidator.isValid(this.withCity, null);
+    }
+
+    @Benchmark
+    public boolean clientWithoutCity() {
+        return this.clientCityValidator.isValid(this.withoutCity, null);
+    }
+}
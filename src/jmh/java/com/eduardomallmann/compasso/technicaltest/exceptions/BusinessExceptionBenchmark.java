@@ -0,0 +1,54 @@
+package com.eduardomallmann.compasso.technicaltest.exceptions;
+
+import com.eduardomallmann.compasso.technicaltest.configs.AppConfig;
+import com.eduardomallmann.compasso.technicaltest.utils.MessageUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link BusinessException} construction, with the message resolved on each one and with the error message built beforehand.
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BusinessExceptionBenchmark {
+
+    private ErrorMessage notFound;
+
+    @Setup
+    public void setUp() {
+        new MessageUtils().setMessageSource(new AppConfig().messageSource());
+        this.notFound = ErrorMessage.builder().status(400).message("client.search.id.not-found").build();
+    }
+
+    @Benchmark
+    public BusinessException withKey() {
+        return new BusinessException("client.search.id.not-found");
+    }
+
+    @Benchmark
+    public BusinessException withKeyAndError() {
+        return new BusinessException("client.search.id.error", "connection refused");
+    }
+
+    @Benchmark
+    public BusinessException withErrorMessage() {
+        return new BusinessException(this.notFound);
+    }
+}
@@ -0,0 +1,88 @@
+package com.eduardomallmann.compasso.technicaltest.utils;
+
+import com.eduardomallmann.compasso.technicaltest.exceptions.ErrorMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures the {@link Builder} instance creation against the reflective lookup it replaced, which scanned the declared constructors on every call.
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BuilderBenchmark {
+
+    private final ErrorMessage errorMessage = new ErrorMessage();
+
+    @Benchmark
+    public Response<String> response() {
+        return Response.of("content");
+    }
+
+    @Benchmark
+    public ResponseContent withoutArguments() {
+        return Builder.create(ResponseContent.class).with(r -> r.setStatus("OK")).build();
+    }
+
+    @Benchmark
+    public ResponseContent withArguments() {
+        return Builder.create(ResponseContent.class, "OK", this.errorMessage).build();
+    }
+
+    @Benchmark
+    public ResponseContent reflectiveWithoutArguments() throws Exception {
+        ResponseContent result = reflectiveCreate(ResponseContent.class, (Object[]) null);
+        result.setStatus("OK");
+        return result;
+    }
+
+    @Benchmark
+    public ResponseContent reflectiveWithArguments() throws Exception {
+        return reflectiveCreate(ResponseContent.class, "OK", this.errorMessage);
+    }
+
+    /**
+     * Reproduces the reflective constructor lookup the {@link Builder} made before resolving it once per class.
+     */
+    private static <T> T reflectiveCreate(final Class<T> clazz, final Object... objects) throws Exception {
+        Stream<Constructor<?>> constructors = Stream.of(clazz.getDeclaredConstructors()).peek(constructor -> constructor.setAccessible(true));
+        Optional<Constructor<?>> constructor;
+        if (null == objects) {
+            constructor = constructors.filter(cons -> cons.getParameterCount() == 0).findFirst();
+            return constructor.isPresent() ? clazz.cast(constructor.get().newInstance()) : null;
+        }
+        constructor = constructors.filter(cons -> cons.getParameterCount() == objects.length)
+                              .filter(cons -> {
+                                  List<Class<?>> consClass = Arrays.asList(cons.getParameterTypes());
+                                  List<Class<?>> paramsClass = Arrays.stream(objects).map(Object::getClass).collect(Collectors.toList());
+                                  return consClass.stream()
+                                                 .allMatch(con -> paramsClass.stream()
+                                                                          .anyMatch(param -> param.equals(con)
+                                                                                                     || param.isAssignableFrom(con)
+                                                                                                     || con.isAssignableFrom(param)));
+                              })
+                              .findFirst();
+        return constructor.isPresent() ? clazz.cast(constructor.get().newInstance(objects)) : null;
+    }
+}
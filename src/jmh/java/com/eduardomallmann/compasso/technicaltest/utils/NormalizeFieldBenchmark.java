@@ -0,0 +1,77 @@
+package com.eduardomallmann.compasso.technicaltest.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link GenericDTO#normalizeField(String)} single pass normalization against the word split one it replaced.
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NormalizeFieldBenchmark {
+
+    @Param({"joinville", "maria das graças da silva", "são josé dos pinhais"})
+    public String field;
+
+    private final GenericDTO genericDTO = new GenericDTO();
+
+    @Benchmark
+    public String singlePass() {
+        return this.genericDTO.normalizeField(this.field);
+    }
+
+    @Benchmark
+    public String wordSplit() {
+        return wordSplitNormalizeField(this.field);
+    }
+
+    /**
+     * Reproduces the word split normalization made before the single pass one.
+     */
+    private static String wordSplitNormalizeField(final String field) {
+        final List<String> vowels = Arrays.asList("a", "e", "o");
+        final String[] words = field.split("\\s");
+        StringBuilder normalizeField = new StringBuilder();
+        for (int i = 0; i < words.length; i++) {
+            String word = words[i];
+            if (i == 0) {
+                normalizeField
+                        .append(word.substring(0, 1).toUpperCase())
+                        .append(word.substring(1).toLowerCase());
+            } else {
+                if ((word.length() <= 3 && word.length() > 1)
+                            && (word.toLowerCase().startsWith("d") && vowels.contains(word.substring(1, 2)) && (word.length() == 2 || word.endsWith("s")))
+                            && i != words.length - 1) {
+                    normalizeField
+                            .append(" ")
+                            .append(word.toLowerCase());
+                } else {
+                    normalizeField
+                            .append(" ")
+                            .append(word.substring(0, 1).toUpperCase())
+                            .append(word.substring(1).toLowerCase());
+                }
+            }
+        }
+        return normalizeField.toString();
+    }
+}
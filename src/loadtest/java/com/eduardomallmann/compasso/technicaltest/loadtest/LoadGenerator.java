@@ -0,0 +1,369 @@
+package com.eduardomallmann.compasso.technicaltest.loadtest;
+
+import com.eduardomallmann.compasso.technicaltest.TechnicalTestApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPatch;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.util.EntityUtils;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * End to end load generator, which boots the {@link TechnicalTestApplication} on a random port with the in memory database, seeds it with cities and
+ * clients and drives a mixed workload of client creations, searches, retrievals, updates and removals, besides city searches, over HTTP.
+ * <p>Each worker thread sends its next request as soon as the previous one is answered, so the load is closed and the latencies are the service time
+ * seen by the client. The latencies measured after the warm up are recorded in microseconds in one {@link Histogram} per operation, reported as p50,
+ * p99, p999 and max along with the throughput, and written as percentile distributions to the output directory. The failed requests are recorded
+ * apart, in one {@link Histogram} per operation too, so their latencies are reported without skewing the successful ones.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+public class LoadGenerator {
+
+    private static final String[] FIRST_NAMES = {"ana", "bruno", "carla", "daniel", "eduardo", "fernanda", "gabriel", "helena", "igor", "julia",
+            "lucas", "marina", "nicolas", "olivia", "pedro", "rafaela", "sergio", "tatiana", "vinicius", "yasmin"};
+    private static final String[] LAST_NAMES = {"almeida", "barbosa", "cardoso", "da silva", "dos santos", "ferreira", "gomes", "lima", "mallmann",
+            "oliveira", "pereira", "ribeiro", "rodrigues", "souza"};
+    private static final String[] STATES = {"SC", "RS", "PR", "SP", "RJ", "MG", "BA", "PE"};
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int SEED_CHUNK_SIZE = 5_000;
+
+    private final LoadOptions options;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, Recorder> failures = new EnumMap<>(Operation.class);
+    private final Queue<Long> createdIds = new ConcurrentLinkedQueue<>();
+    private final Operation[] operations;
+    private final int[] weights;
+    private CloseableHttpClient httpClient;
+    private long[] seededIds;
+    private volatile boolean running;
+
+    /**
+     * Main constructor.
+     *
+     * @param options load options
+     * @param baseUrl application base url
+     */
+    public LoadGenerator(final LoadOptions options, final String baseUrl) {
+        this.options = options;
+        this.baseUrl = baseUrl;
+        for (Operation operation : Operation.values()) {
+            this.recorders.put(operation, new Recorder(3));
+            this.failures.put(operation, new Recorder(3));
+        }
+        final List<Operation> mixOperations = new ArrayList<>();
+        final List<Integer> mixWeights = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<Operation, Integer> entry : options.getMix().entrySet()) {
+            if (entry.getValue() <= 0) continue;
+            total += entry.getValue();
+            mixOperations.add(entry.getKey());
+            mixWeights.add(total);
+        }
+        this.operations = mixOperations.toArray(new Operation[0]);
+        this.weights = mixWeights.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Boots the application and runs the load against it, closing the application at the end.
+     *
+     * @param args load options, as {@code --name=value} pairs
+     *
+     * @throws Exception in case of the seed or the load fails.
+     */
+    public static void main(final String[] args) throws Exception {
+        final LoadOptions options = LoadOptions.of(args);
+        final ConfigurableApplicationContext context = new SpringApplicationBuilder(TechnicalTestApplication.class)
+                                                               .run("--server.port=0",
+                                                                    "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                                                                    "--spring.jpa.show-sql=false",
+                                                                    "--logging.level.root=warn",
+                                                                    "--logging.level.com.eduardomallmann.compasso.technicaltest=warn",
+                                                                    "--logging.level.org.springframework.data.jpa=warn");
+        try {
+            final Integer port = context.getEnvironment().getProperty("local.server.port", Integer.class);
+            new LoadGenerator(options, "http://localhost:" + port).run();
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * Seeds the application, warms it up and measures the workload, printing the report at the end.
+     *
+     * @throws Exception in case of the seed or the load fails.
+     */
+    public void run() throws Exception {
+        System.out.println("Load options: " + this.options);
+        this.httpClient = HttpClients.custom()
+                                  .setMaxConnTotal(this.options.getThreads() * 2)
+                                  .setMaxConnPerRoute(this.options.getThreads() * 2)
+                                  .disableAutomaticRetries()
+                                  .build();
+        try {
+            this.seed();
+            this.running = true;
+            final ExecutorService workers = Executors.newFixedThreadPool(this.options.getThreads());
+            for (int i = 0; i < this.options.getThreads(); i++) {
+                workers.execute(this::work);
+            }
+            TimeUnit.SECONDS.sleep(this.options.getWarmup());
+            this.recorders.values().forEach(Recorder::reset);
+            this.failures.values().forEach(Recorder::reset);
+            final long start = System.nanoTime();
+            TimeUnit.SECONDS.sleep(this.options.getDuration());
+            final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+            this.recorders.forEach((operation, recorder) -> histograms.put(operation, recorder.getIntervalHistogram()));
+            final Map<Operation, Histogram> failures = new EnumMap<>(Operation.class);
+            this.failures.forEach((operation, recorder) -> failures.put(operation, recorder.getIntervalHistogram()));
+            final double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            this.running = false;
+            workers.shutdown();
+            workers.awaitTermination(1, TimeUnit.MINUTES);
+            this.report(histograms, failures, seconds);
+        } finally {
+            this.httpClient.close();
+        }
+    }
+
+    /**
+     * Seeds the cities by the csv import and the clients by the bulk creation, then reads the seeded clients identifiers from the export.
+     */
+    private void seed() throws IOException {
+        final long start = System.nanoTime();
+        final StringBuilder csv = new StringBuilder("city,state\n");
+        for (int i = 0; i < this.options.getCities(); i++) {
+            csv.append(cityName(i)).append(',').append(STATES[i % STATES.length]).append('\n');
+        }
+        this.send(post("/cities/import", csv.toString(), ContentType.create("text/csv", StandardCharsets.UTF_8)), null, true);
+        final StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < this.options.getClients(); i++) {
+            ndjson.append(this.clientJson(i)).append('\n');
+            if ((i + 1) % SEED_CHUNK_SIZE == 0 || i == this.options.getClients() - 1) {
+                this.send(post("/clients/bulk", ndjson.toString(), ContentType.create(NDJSON, StandardCharsets.UTF_8)), null, true);
+                ndjson.setLength(0);
+            }
+        }
+        final List<Long> ids = new ArrayList<>();
+        final HttpResponse response = this.httpClient.execute(new HttpGet(this.baseUrl + "/clients/export"));
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.getEntity().getContent(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) ids.add(this.objectMapper.readTree(line).get("id").asLong());
+            }
+        }
+        if (ids.isEmpty()) throw new IllegalStateException("No clients were seeded");
+        this.seededIds = ids.stream().mapToLong(Long::longValue).toArray();
+        System.out.printf("Seeded %d cities and %d clients in %.1f s%n", this.options.getCities(), this.seededIds.length,
+                          (System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    /**
+     * Sends the requests of the workload mix until the load is stopped.
+     */
+    private void work() {
+        while (this.running) {
+            Operation operation = this.nextOperation();
+            final HttpUriRequest request;
+            Consumer<String> onSuccess = null;
+            switch (operation) {
+                case SEARCH:
+                    request = new HttpGet(this.baseUrl + "/clients?name=" + encode(randomOf(FIRST_NAMES)));
+                    break;
+                case GET:
+                    request = new HttpGet(this.baseUrl + "/clients/" + this.randomSeededId());
+                    break;
+                case PATCH:
+                    request = new HttpPatch(this.baseUrl + "/clients/" + this.randomSeededId());
+                    ((HttpEntityEnclosingRequestBase) request)
+                            .setEntity(new StringEntity("{\"name\":\"" + randomName() + "\"}", ContentType.APPLICATION_JSON));
+                    break;
+                case CITY_SEARCH:
+                    request = new HttpGet(this.baseUrl + "/cities/name?value="
+                                                  + encode(cityName(ThreadLocalRandom.current().nextInt(this.options.getCities()))));
+                    break;
+                case DELETE:
+                    final Long id = this.createdIds.poll();
+                    if (id != null) {
+                        request = new HttpDelete(this.baseUrl + "/clients/" + id);
+                        break;
+                    }
+                    operation = Operation.CREATE;
+                case CREATE:
+                default:
+                    request = post("/clients", this.clientJson(ThreadLocalRandom.current().nextInt(this.options.getClients())),
+                                   ContentType.APPLICATION_JSON);
+                    onSuccess = this::collectCreatedId;
+            }
+            final long start = System.nanoTime();
+            boolean succeeded;
+            try {
+                succeeded = this.send(request, onSuccess, false);
+            } catch (Exception e) {
+                succeeded = false;
+            }
+            final long latency = (System.nanoTime() - start) / 1_000;
+            (succeeded ? this.recorders : this.failures).get(operation).recordValue(latency);
+        }
+    }
+
+    /**
+     * Sends the request, consuming the whole response so the connection is given back to the pool.
+     *
+     * @param request   request to be sent
+     * @param onSuccess response body consumer in case of success, may be null
+     * @param required  true to fail when the response status is not a success one
+     *
+     * @return true when the response status is a success one.
+     */
+    private boolean send(final HttpUriRequest request, final Consumer<String> onSuccess, final boolean required) throws IOException {
+        final HttpResponse response = this.httpClient.execute(request);
+        final String body = response.getEntity() == null ? "" : EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
+        final int status = response.getStatusLine().getStatusCode();
+        final boolean succeeded = status >= 200 && status < 300;
+        if (!succeeded && required) throw new IllegalStateException(request.getMethod() + " " + request.getURI() + " failed with " + status + ": " + body);
+        if (succeeded && onSuccess != null) onSuccess.accept(body);
+        return succeeded;
+    }
+
+    private void collectCreatedId(final String body) {
+        try {
+            final JsonNode content = this.objectMapper.readTree(body).path("content");
+            if (content.size() > 0) this.createdIds.add(content.get(0).get("id").asLong());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Prints the latencies and the throughput of each operation ran and of the whole workload, followed by the latencies of the failed requests, writing
+     * the percentile distributions to the output directory.
+     * <p>Every operation with a request measured is reported, including the creations the removals fell back to when they are not in the mix.</p>
+     */
+    private void report(final Map<Operation, Histogram> histograms, final Map<Operation, Histogram> failures, final double seconds) throws IOException {
+        final File output = new File(this.options.getOutput());
+        if (!output.isDirectory() && !output.mkdirs()) throw new IOException("Could not create the output directory: " + output);
+        final Histogram total = new Histogram(3);
+        final Histogram totalFailures = new Histogram(3);
+        System.out.printf("%nMeasured %.1f s with %d threads, latencies in ms%n", seconds, this.options.getThreads());
+        System.out.printf("%-12s %10s %8s %10s %9s %9s %9s %9s%n", "operation", "count", "errors", "ops/s", "p50", "p99", "p999", "max");
+        for (Operation operation : Operation.values()) {
+            final Histogram histogram = histograms.get(operation);
+            final Histogram failed = failures.get(operation);
+            if (histogram.getTotalCount() == 0 && failed.getTotalCount() == 0) continue;
+            total.add(histogram);
+            totalFailures.add(failed);
+            this.printLine(operation.name(), histogram, failed.getTotalCount(), seconds);
+            this.write(new File(output, operation.name().toLowerCase() + ".hgrm"), histogram);
+        }
+        this.printLine("TOTAL", total, totalFailures.getTotalCount(), seconds);
+        this.write(new File(output, "total.hgrm"), total);
+        if (totalFailures.getTotalCount() > 0) {
+            System.out.printf("%nFailed requests, latencies in ms%n");
+            System.out.printf("%-12s %10s %8s %10s %9s %9s %9s %9s%n", "operation", "count", "", "ops/s", "p50", "p99", "p999", "max");
+            for (Operation operation : Operation.values()) {
+                final Histogram failed = failures.get(operation);
+                if (failed.getTotalCount() == 0) continue;
+                this.printLine(operation.name(), failed, null, seconds);
+                this.write(new File(output, operation.name().toLowerCase() + "-errors.hgrm"), failed);
+            }
+            this.printLine("TOTAL", totalFailures, null, seconds);
+            this.write(new File(output, "total-errors.hgrm"), totalFailures);
+        }
+        System.out.println("Percentile distributions written to " + output.getAbsolutePath());
+    }
+
+    private void printLine(final String name, final Histogram histogram, final Long failures, final double seconds) {
+        System.out.printf("%-12s %10d %8s %10.1f %9.2f %9.2f %9.2f %9.2f%n", name, histogram.getTotalCount(), failures == null ? "" : failures,
+                          histogram.getTotalCount() / seconds,
+                          histogram.getValueAtPercentile(50) / 1_000.0,
+                          histogram.getValueAtPercentile(99) / 1_000.0,
+                          histogram.getValueAtPercentile(99.9) / 1_000.0,
+                          histogram.getMaxValue() / 1_000.0);
+    }
+
+    private void write(final File file, final Histogram histogram) throws IOException {
+        try (PrintStream printStream = new PrintStream(file, StandardCharsets.UTF_8.name())) {
+            histogram.outputPercentileDistribution(printStream, 1_000.0);
+        }
+    }
+
+    private Operation nextOperation() {
+        final int value = ThreadLocalRandom.current().nextInt(this.weights[this.weights.length - 1]);
+        for (int i = 0; i < this.weights.length; i++) {
+            if (value < this.weights[i]) return this.operations[i];
+        }
+        return this.operations[this.operations.length - 1];
+    }
+
+    private long randomSeededId() {
+        return this.seededIds[ThreadLocalRandom.current().nextInt(this.seededIds.length)];
+    }
+
+    private String clientJson(final int index) {
+        final int city = index % this.options.getCities();
+        return "{\"name\":\"" + randomName() + "\",\"gender\":\"" + (index % 2 == 0 ? "feminino" : "masculino")
+                       + "\",\"birthday\":\"" + (1950 + index % 50) + "-0" + (1 + index % 9) + "-1" + (index % 10)
+                       + "\",\"city\":\"" + cityName(city) + "\",\"state\":\"" + STATES[city % STATES.length] + "\"}";
+    }
+
+    private HttpPost post(final String path, final String body, final ContentType contentType) {
+        final HttpPost post = new HttpPost(this.baseUrl + path);
+        post.setEntity(new StringEntity(body, contentType));
+        return post;
+    }
+
+    private static String cityName(final int index) {
+        return "cidade " + index;
+    }
+
+    private static String randomName() {
+        return randomOf(FIRST_NAMES) + " " + randomOf(LAST_NAMES);
+    }
+
+    private static String randomOf(final String[] values) {
+        return values[ThreadLocalRandom.current().nextInt(values.length)];
+    }
+
+    private static String encode(final String value) {
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.eduardomallmann.compasso.technicaltest.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Class responsible to read the {@link LoadGenerator} options from the command line arguments, given as {@code --name=value} pairs.
+ * <p>The known options are {@code cities}, {@code clients}, {@code threads}, {@code warmup} and {@code duration}, both in seconds, {@code mix}, as
+ * {@code operation:weight} pairs separated by commas, and {@code output}, the directory where the histograms are written.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+public class LoadOptions {
+
+    private int cities = 1_000;
+    private int clients = 10_000;
+    private int threads = 16;
+    private int warmup = 10;
+    private int duration = 60;
+    private String output = "target/loadtest";
+    private final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+
+    /**
+     * Main constructor, with the default options.
+     */
+    public LoadOptions() {
+        for (Operation operation : Operation.values()) {
+            this.mix.put(operation, operation.getDefaultWeight());
+        }
+    }
+
+    /**
+     * Reads the options from the command line arguments, keeping the default value of the options not informed.
+     *
+     * @param args command line arguments
+     *
+     * @return the options read.
+     */
+    public static LoadOptions of(final String... args) {
+        final LoadOptions options = new LoadOptions();
+        for (String arg : args) {
+            final String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            final int separator = option.indexOf('=');
+            if (separator < 0) throw new IllegalArgumentException("Invalid option: " + arg);
+            final String value = option.substring(separator + 1).trim();
+            switch (option.substring(0, separator).trim()) {
+                case "cities":
+                    options.cities = positive(arg, value);
+                    break;
+                case "clients":
+                    options.clients = positive(arg, value);
+                    break;
+                case "threads":
+                    options.threads = positive(arg, value);
+                    break;
+                case "warmup":
+                    options.warmup = Integer.parseInt(value);
+                    break;
+                case "duration":
+                    options.duration = positive(arg, value);
+                    break;
+                case "output":
+                    options.output = value;
+                    break;
+                case "mix":
+                    options.mix.clear();
+                    for (String weight : value.split(",")) {
+                        final String[] pair = weight.split(":");
+                        if (pair.length != 2) throw new IllegalArgumentException("Invalid mix: " + value);
+                        options.mix.put(Operation.of(pair[0]), Integer.parseInt(pair[1].trim()));
+                    }
+                    if (options.mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) throw new IllegalArgumentException("Invalid mix: " + value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        return options;
+    }
+
+    private static int positive(final String arg, final String value) {
+        final int result = Integer.parseInt(value);
+        if (result <= 0) throw new IllegalArgumentException("Option must be positive: " + arg);
+        return result;
+    }
+
+    public int getCities() {
+        return cities;
+    }
+
+    public int getClients() {
+        return clients;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getWarmup() {
+        return warmup;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
+    public String getOutput() {
+        return output;
+    }
+
+    public Map<Operation, Integer> getMix() {
+        return mix;
+    }
+
+    @Override
+    public String toString() {
+        return "LoadOptions{" +
+                       "cities=" + cities +
+                       ", clients=" + clients +
+                       ", threads=" + threads +
+                       ", warmup=" + warmup +
+                       ", duration=" + duration +
+                       ", output='" + output + '\'' +
+                       ", mix=" + mix +
+                       '}';
+    }
+}
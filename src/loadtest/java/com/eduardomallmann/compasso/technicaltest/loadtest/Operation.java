@@ -0,0 +1,45 @@
+package com.eduardomallmann.compasso.technicaltest.loadtest;
+
+import java.util.Locale;
+
+/**
+ * Enum responsible to list the requests driven by the {@link LoadGenerator}, with their default weight in the workload mix.
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+public enum Operation {
+
+    CREATE(10),
+    SEARCH(20),
+    GET(45),
+    PATCH(10),
+    DELETE(5),
+    CITY_SEARCH(10);
+
+    private final int defaultWeight;
+
+    /**
+     * Main constructor.
+     *
+     * @param defaultWeight operation weight in the default workload mix
+     */
+    Operation(final int defaultWeight) {
+        this.defaultWeight = defaultWeight;
+    }
+
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    /**
+     * Finds the operation by its name, ignoring the case and accepting dashes in place of underscores.
+     *
+     * @param name operation name
+     *
+     * @return the operation found.
+     */
+    public static Operation of(final String name) {
+        return Operation.valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+}
@@ -0,0 +1,101 @@
+package com.eduardomallmann.compasso.technicaltest.configs;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Asynchronous executors instantiation by configurations.
+ * <p>The asynchronous service methods run in the executor of their workload, so a burst of one kind of request can't starve the others: the
+ * {@value #LOOKUP_EXECUTOR} runs the searches by identifier, the {@value #SEARCH_EXECUTOR} the searches by name and state and the listings, and the
+ * {@value #WRITE_EXECUTOR} the creations and updates. Each one has a bounded queue and rejects the tasks once it is saturated.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@Configuration
+public class AsyncConfig {
+
+    public static final String LOOKUP_EXECUTOR = "lookupExecutor";
+    public static final String SEARCH_EXECUTOR = "searchExecutor";
+    public static final String WRITE_EXECUTOR = "writeExecutor";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Main constructor with components injection.
+     *
+     * @param meterRegistry {@link MeterRegistry} component
+     */
+    public AsyncConfig(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Configure and instantiate the default application {@link ThreadPoolTaskExecutor} component, used by the asynchronous requests and the
+     * asynchronous methods with no executor informed, as the one Spring Boot would create if there was no other executor.
+     *
+     * @param taskExecutorBuilder {@link TaskExecutorBuilder} component
+     *
+     * @return the {@link ThreadPoolTaskExecutor} component instantiated.
+     */
+    @Lazy
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(final TaskExecutorBuilder taskExecutorBuilder) {
+        return taskExecutorBuilder.build();
+    }
+
+    /**
+     * Configure and instantiate the {@value #LOOKUP_EXECUTOR} component.
+     *
+     * @param corePoolSize  number of threads kept in the pool
+     * @param maxPoolSize   maximum number of threads in the pool
+     * @param queueCapacity maximum number of tasks waiting for a thread
+     *
+     * @return the {@link BoundedTaskExecutor} component instantiated.
+     */
+    @Bean(LOOKUP_EXECUTOR)
+    public BoundedTaskExecutor lookupExecutor(@Value("${technicaltest.executors.lookup.core-size:8}") final int corePoolSize,
+                                              @Value("${technicaltest.executors.lookup.max-size:16}") final int maxPoolSize,
+                                              @Value("${technicaltest.executors.lookup.queue-capacity:1000}") final int queueCapacity) {
+        return new BoundedTaskExecutor("lookup", corePoolSize, maxPoolSize, queueCapacity, this.meterRegistry);
+    }
+
+    /**
+     * Configure and instantiate the {@value #SEARCH_EXECUTOR} component.
+     *
+     * @param corePoolSize  number of threads kept in the pool
+     * @param maxPoolSize   maximum number of threads in the pool
+     * @param queueCapacity maximum number of tasks waiting for a thread
+     *
+     * @return the {@link BoundedTaskExecutor} component instantiated.
+     */
+    @Bean(SEARCH_EXECUTOR)
+    public BoundedTaskExecutor searchExecutor(@Value("${technicaltest.executors.search.core-size:4}") final int corePoolSize,
+                                              @Value("${technicaltest.executors.search.max-size:8}") final int maxPoolSize,
+                                              @Value("${technicaltest.executors.search.queue-capacity:200}") final int queueCapacity) {
+        return new BoundedTaskExecutor("search", corePoolSize, maxPoolSize, queueCapacity, this.meterRegistry);
+    }
+
+    /**
+     * Configure and instantiate the {@value #WRITE_EXECUTOR} component.
+     *
+     * @param corePoolSize  number of threads kept in the pool
+     * @param maxPoolSize   maximum number of threads in the pool
+     * @param queueCapacity maximum number of tasks waiting for a thread
+     *
+     * @return the {@link BoundedTaskExecutor} component instantiated.
+     */
+    @Bean(WRITE_EXECUTOR)
+    public BoundedTaskExecutor writeExecutor(@Value("${technicaltest.executors.write.core-size:4}") final int corePoolSize,
+                                             @Value("${technicaltest.executors.write.max-size:8}") final int maxPoolSize,
+                                             @Value("${technicaltest.executors.write.queue-capacity:500}") final int queueCapacity) {
+        return new BoundedTaskExecutor("write", corePoolSize, maxPoolSize, queueCapacity, this.meterRegistry);
+    }
+}
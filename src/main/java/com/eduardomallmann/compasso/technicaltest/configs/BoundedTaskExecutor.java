@@ -0,0 +1,90 @@
+package com.eduardomallmann.compasso.technicaltest.configs;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Named thread pool task executor with a bounded queue, which rejects the tasks once its threads are all busy and its queue is full.
+ * <p>The rejected tasks are thrown back to the caller as a {@link TaskRejectedException}, answered by the application as service unavailable. The pool
+ * size, active threads, queue depth and completed tasks are exported to the application meter registry as the {@code executor} metrics tagged with the
+ * executor name, and the rejections as the {@code executor.rejected} counter with the same tag.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+public class BoundedTaskExecutor extends ThreadPoolTaskExecutor {
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+    private final String name;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejections;
+
+    /**
+     * Main constructor.
+     *
+     * @param name          executor name, used as the threads name prefix and as the metrics tag
+     * @param corePoolSize  number of threads kept in the pool
+     * @param maxPoolSize   maximum number of threads in the pool, created only when the queue is full
+     * @param queueCapacity maximum number of tasks waiting for a thread
+     * @param meterRegistry {@link MeterRegistry} component
+     */
+    public BoundedTaskExecutor(final String name,
+                               final int corePoolSize,
+                               final int maxPoolSize,
+                               final int queueCapacity,
+                               final MeterRegistry meterRegistry) {
+        this.name = name;
+        this.meterRegistry = meterRegistry;
+        this.rejections = Counter.builder("executor.rejected")
+                                  .description("The number of tasks rejected by the executor")
+                                  .baseUnit("tasks")
+                                  .tag("name", name)
+                                  .register(meterRegistry);
+        this.setThreadNamePrefix(name + "-");
+        this.setCorePoolSize(corePoolSize);
+        this.setMaxPoolSize(Math.max(corePoolSize, maxPoolSize));
+        this.setQueueCapacity(queueCapacity);
+        this.setRejectedExecutionHandler(this::reject);
+    }
+
+    /**
+     * Creates the thread pool and binds its metrics to the meter registry.
+     *
+     * @param threadFactory            the thread factory to use
+     * @param rejectedExecutionHandler the rejection policy to use
+     *
+     * @return the thread pool created.
+     */
+    @Override
+    protected ExecutorService initializeExecutor(final ThreadFactory threadFactory, final RejectedExecutionHandler rejectedExecutionHandler) {
+        final ExecutorService executorService = super.initializeExecutor(threadFactory, rejectedExecutionHandler);
+        new ExecutorServiceMetrics(executorService, this.name, Tags.empty()).bindTo(this.meterRegistry);
+        return executorService;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Counts the rejected task and throws it back to the caller.
+     * <p>Rejections come in bursts while the executor is saturated, so they are logged at debug level only and watched through the counter.</p>
+     */
+    private void reject(final Runnable task, final ThreadPoolExecutor executor) {
+        this.rejections.increment();
+        log.debug("Executor {} rejected a task with {} active threads and {} queued tasks", this.name, executor.getActiveCount(), executor.getQueue().size());
+        throw new RejectedExecutionException("Executor " + this.name + " is saturated");
+    }
+}
@@ -1,11 +1,18 @@
 package com.eduardomallmann.compasso.technicaltest.domains.city;
 
+import com.eduardomallmann.compasso.technicaltest.utils.NameNormalizer;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
-import javax.persistence.SequenceGenerator;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
 import javax.persistence.Table;
 import javax.persistence.UniqueConstraint;
 import java.io.Serializable;
@@ -18,6 +25,7 @@ import java.util.Objects;
  * @since 0.0.1
  */
 @Entity
+@EntityListeners(CityEntityListener.class)
 @Table(name = "cities",
         uniqueConstraints=@UniqueConstraint(name = "uc_cities_name_state", columnNames={"name", "state"})
 )
@@ -27,12 +35,17 @@ public class City implements Serializable {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cities_seq")
-    @SequenceGenerator(name = "cities_seq", sequenceName = "cities_id_seq", allocationSize = 1)
+    @GenericGenerator(name = "cities_seq", strategy = "com.eduardomallmann.compasso.technicaltest.utils.HiLoSequenceGenerator",
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "cities_id_seq"))
     private Long id;
     @Column(name = "name", nullable = false)
     private String name;
     @Column(name = "state", nullable = false)
     private String state;
+    @Column(name = "display_name")
+    private String displayName;
+    @Column(name = "display_state")
+    private String displayState;
 
     /**
      * Main constructor, empty.
@@ -75,6 +88,32 @@ public class City implements Serializable {
         this.state = state;
     }
 
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public void setDisplayName(final String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayState() {
+        return displayState;
+    }
+
+    public void setDisplayState(final String displayState) {
+        this.displayState = displayState;
+    }
+
+    /**
+     * Computes the display form of the name and state, whenever the register is written.
+     */
+    @PrePersist
+    @PreUpdate
+    public void normalizeDisplay() {
+        this.displayName = NameNormalizer.normalizeDisplay(this.name);
+        this.displayState = NameNormalizer.normalizeDisplay(this.state);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
@@ -0,0 +1,101 @@
+package com.eduardomallmann.compasso.technicaltest.domains.city;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory prefix index over the lower cased {@link City} name and state pairs, used by the cities autocomplete.
+ * <p>The pairs are kept sorted in a concurrent skip list, updated by every write and searched from the first key not lower than the prefix, so a lookup
+ * only walks the matches it returns and never waits for a write. Each write pays a logarithmic insertion instead of a full rebuild, which keeps the
+ * searches cheap during bursts of inserts, at the cost of a slower walk than the one of a sorted array.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@Component
+public class CityAutocompleteIndex {
+
+    private static final char SEPARATOR = '\u0000';
+
+    private final ConcurrentMap<Long, City> cities = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<String, City> sorted = new ConcurrentSkipListMap<>();
+
+    /**
+     * Loads the index with the {@link City} registers informed.
+     *
+     * @param registers all {@link City} registers of the database
+     */
+    public void load(final Collection<City> registers) {
+        registers.forEach(this::put);
+    }
+
+    /**
+     * Finds the first {@link City} registers, in name and state order, which name starts with the prefix informed.
+     *
+     * @param prefix start of the city name, lower cased
+     * @param limit  maximum number of registers returned
+     *
+     * @return A list of {@link City} objects.
+     */
+    public List<City> findAllByNameStartingWith(final String prefix, final int limit) {
+        final List<City> result = new ArrayList<>(Math.min(limit, 16));
+        for (Map.Entry<String, City> entry : this.sorted.tailMap(prefix, true).entrySet()) {
+            if (result.size() >= limit || !entry.getKey().startsWith(prefix)) break;
+            result.add(entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Keeps the index in sync with the cities table once the transaction that changed it is committed.
+     *
+     * @param event the {@link CityEvent} published
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCityEvent(final CityEvent event) {
+        if (event.isRemoved()) {
+            this.cities.computeIfPresent(event.getCity().getId(), (id, previous) -> {
+                this.sorted.remove(key(previous), previous);
+                return null;
+            });
+        } else {
+            this.put(event.getCity());
+        }
+    }
+
+    /**
+     * Indexes the {@link City} informed, replacing its previous name and state pair.
+     *
+     * @param city the {@link City} object
+     */
+    private void put(final City city) {
+        this.cities.compute(city.getId(), (id, previous) -> {
+            if (previous != null) {
+                this.sorted.remove(key(previous), previous);
+            }
+            this.sorted.put(key(city), city);
+            return city;
+        });
+    }
+
+    /**
+     * Builds the sort key of the {@link City} informed, its name followed by its state, so the keys of a name are sorted before the longer names it
+     * starts.
+     *
+     * @param city the {@link City} object
+     *
+     * @return the sort key.
+     */
+    private static String key(final City city) {
+        return city.getName() + SEPARATOR + city.getState();
+    }
+}
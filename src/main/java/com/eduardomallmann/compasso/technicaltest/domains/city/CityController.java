@@ -9,6 +9,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +23,9 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.async.DeferredResult;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.io.InputStream;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -66,7 +70,7 @@ public class CityController implements GenericRestController {
             @ApiResponse(responseCode = "400", description = "City creation failed")})
     @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
     public DeferredResult<ResponseEntity<Response<CityDTO>>> createCity(@Valid @RequestBody final CityDTO cityRequest) throws BusinessException {
-        log.info("Create City request call with: {}", cityRequest.toJson());
+        log.info("Create City request call with: {}", cityRequest.toLazyJson());
         DeferredResult<ResponseEntity<Response<CityDTO>>> deferredResult = new DeferredResult<>();
         CompletableFuture<Response<CityDTO>> future = this.cityService.save(cityRequest);
         future.whenCompleteAsync((result, throwable) -> {
@@ -79,6 +83,28 @@ public class CityController implements GenericRestController {
         return deferredResult;
     }
 
+    /**
+     * Imports the {@link City} objects of a CSV request body, creating the cities not existent yet.
+     * <p>The body is read as a stream, with the city and state columns found by the header, as {@code city} and {@code state} or their aliases listed in
+     * {@link CityImporter}, or the first two columns when there is no header. A header not recognized is reported as a rejected row.</p>
+     *
+     * @param inputStream the request body stream
+     *
+     * @return a response with the {@link CityImportResponse} object encapsulated in a {@link Response} object.
+     *
+     * @throws BusinessException in case of the application throws any kind of exception.
+     */
+    @Operation(summary = "Import Cities", description = "Imports the cities of a CSV request body, creating the ones not existent yet.",
+            tags = {"Cities Endpoints"})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cities imported"),
+            @ApiResponse(responseCode = "400", description = "Cities import failed")})
+    @PostMapping(value = "/import", produces = MediaType.APPLICATION_JSON_VALUE, consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<Response<CityImportResponse>> importCities(final InputStream inputStream) throws BusinessException {
+        log.info("Import cities request call");
+        return ResponseEntity.ok(this.cityService.importCities(inputStream));
+    }
+
     /**
      * Search for all {@link City} objects that matches the similar name passed as params.
      *
@@ -99,6 +125,29 @@ public class CityController implements GenericRestController {
         return this.getSearchResult(this.cityService.findAllByNameLike(cityName));
     }
 
+    /**
+     * Search for a page of {@link City} objects that matches the similar name passed as params.
+     * <p>It is selected whenever the {@code page} param is informed, along with the optional {@code size} and {@code sort} params.</p>
+     *
+     * @param cityName partial name of the city
+     * @param pageable the page requested
+     *
+     * @return an asynchronous response with the {@link CityDTO} objects page encapsulated in a {@link Response} object.
+     *
+     * @throws BusinessException in case of the application throws any kind of exception.
+     */
+    @Operation(summary = "Get a page of Cities by name", description = "Search for a page of cities that matches the similar name passed as params.",
+            tags = {"Cities Endpoints"})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cities search success"),
+            @ApiResponse(responseCode = "400", description = "Cities search failed")})
+    @GetMapping(value = "/name", params = {"value", "page"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    public DeferredResult<ResponseEntity<Response<CityDTO>>> getCitiesByName(@RequestParam("value") final String cityName,
+                                                                             final Pageable pageable) throws BusinessException {
+        log.info("Get Cities by name request call with: {}, {}", cityName, pageable);
+        return this.getSearchResult(this.cityService.findAllByNameLike(cityName, pageable));
+    }
+
     /**
      * Search for all {@link City} objects that fully matches its state property passed as params.
      *
@@ -118,4 +167,52 @@ public class CityController implements GenericRestController {
         log.info("Get Cities by state request call with: {}", state);
         return this.getSearchResult(this.cityService.findAllByState(state));
     }
+
+    /**
+     * Search for a page of {@link City} objects that fully matches its state property passed as params.
+     * <p>It is selected whenever the {@code page} param is informed, along with the optional {@code size} and {@code sort} params.</p>
+     *
+     * @param state    full state name
+     * @param pageable the page requested
+     *
+     * @return an asynchronous response with the {@link CityDTO} objects page encapsulated in a {@link Response} object.
+     *
+     * @throws BusinessException in case of the application throws any kind of exception.
+     */
+    @Operation(summary = "Get a page of Cities by state", description = "Search for a page of cities that fully matches its state property passed as params.",
+            tags = {"Cities Endpoints"})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cities search success"),
+            @ApiResponse(responseCode = "400", description = "Cities search failed")})
+    @GetMapping(value = "/state", params = {"value", "page"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    public DeferredResult<ResponseEntity<Response<CityDTO>>> getCitiesByState(@RequestParam("value") final String state,
+                                                                              final Pageable pageable) throws BusinessException {
+        log.info("Get Cities by state request call with: {}, {}", state, pageable);
+        return this.getSearchResult(this.cityService.findAllByState(state, pageable));
+    }
+
+    /**
+     * Search for the first {@link City} objects, in alphabetical order, which name starts with the prefix passed as params.
+     * <p>It is meant for keystroke driven calls, the search is answered in memory and synchronously.</p>
+     *
+     * @param prefix start of the city name
+     * @param limit  maximum number of cities returned, from 1 to 100
+     *
+     * @return a response with {@link CityDTO} objects encapsulated in a {@link Response} object.
+     *
+     * @throws BusinessException in case of the application throws any kind of exception.
+     */
+    @Operation(summary = "Autocomplete the Cities by name", description = "Search for the first cities, in alphabetical order, which name starts with the prefix " +
+                                                                                "passed as params.",
+            tags = {"Cities Endpoints"})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cities search success"),
+            @ApiResponse(responseCode = "400", description = "Cities search failed")})
+    @GetMapping(value = "/autocomplete", params = "prefix", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Response<CityDTO>> autocompleteCities(@RequestParam("prefix") final String prefix,
+                                                                @RequestParam(value = "limit", defaultValue = "10") @Min(1) @Max(100) final int limit)
+            throws BusinessException {
+        log.info("Autocomplete Cities request call with: {}, limit {}", prefix, limit);
+        return ResponseEntity.ok(this.cityService.findAllByNameStartingWith(prefix, limit));
+    }
 }
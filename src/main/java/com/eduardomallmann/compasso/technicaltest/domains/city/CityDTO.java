@@ -51,6 +51,20 @@ public class CityDTO extends GenericDTO {
         this.state = city.getState();
     }
 
+    /**
+     * Builds a {@link CityDTO} object with the display form of the {@link City} properties, normalizing them only when they were not persisted.
+     *
+     * @param city {@link City} object
+     *
+     * @return a {@link CityDTO} object.
+     */
+    public static CityDTO normalized(final City city) {
+        if (city.getDisplayName() == null || city.getDisplayState() == null) {
+            return new CityDTO(city).getNormalized();
+        }
+        return new CityDTO(city.getDisplayName(), city.getDisplayState());
+    }
+
     /**
      * Gets a {@link City} object from this data and normalize the fields values to lower case.
      *
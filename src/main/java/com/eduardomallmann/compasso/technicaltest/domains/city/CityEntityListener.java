@@ -0,0 +1,51 @@
+package com.eduardomallmann.compasso.technicaltest.domains.city;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * JPA entity listener of {@link City}, it translates every write on the cities table into a {@link CityEvent}.
+ * <p>The in-memory structures of the domain subscribe to these events, so they stay in sync no matter which component wrote the register.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@Component
+public class CityEntityListener {
+
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * Main constructor with components injection.
+     *
+     * @param publisher {@link ApplicationEventPublisher} component
+     */
+    public CityEntityListener(final ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    /**
+     * Publishes a {@link CityEvent.Type#SAVED} event after the register is inserted or updated.
+     *
+     * @param city the {@link City} written
+     */
+    @PostPersist
+    @PostUpdate
+    public void afterSave(final City city) {
+        this.publisher.publishEvent(new CityEvent(city, CityEvent.Type.SAVED));
+    }
+
+    /**
+     * Publishes a {@link CityEvent.Type#REMOVED} event after the register is deleted.
+     *
+     * @param city the {@link City} removed
+     */
+    @PostRemove
+    public void afterRemove(final City city) {
+        this.publisher.publishEvent(new CityEvent(city, CityEvent.Type.REMOVED));
+    }
+}
@@ -0,0 +1,55 @@
+package com.eduardomallmann.compasso.technicaltest.domains.city;
+
+/**
+ * Application event published whenever a {@link City} register is written to or removed from the cities table.
+ * <p>It carries a detached copy of the entity, so the listeners can keep it without holding a managed instance.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+public class CityEvent {
+
+    /**
+     * Kind of change applied to the {@link City} register.
+     */
+    public enum Type {
+        SAVED, REMOVED
+    }
+
+    private final City city;
+    private final Type type;
+
+    /**
+     * Main constructor, copies the {@link City} properties informed.
+     *
+     * @param city the {@link City} changed
+     * @param type the kind of change
+     */
+    public CityEvent(final City city, final Type type) {
+        this.city = new City(city.getName(), city.getState());
+        this.city.setId(city.getId());
+        this.city.setDisplayName(city.getDisplayName());
+        this.city.setDisplayState(city.getDisplayState());
+        this.type = type;
+    }
+
+    public City getCity() {
+        return city;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public boolean isRemoved() {
+        return Type.REMOVED.equals(this.type);
+    }
+
+    @Override
+    public String toString() {
+        return "CityEvent{" +
+                       "city=" + city +
+                       ", type=" + type +
+                       '}';
+    }
+}
@@ -0,0 +1,120 @@
+package com.eduardomallmann.compasso.technicaltest.domains.city;
+
+import com.eduardomallmann.compasso.technicaltest.utils.GenericDTO;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * City data transfer object responsible to encapsulate the summary of a {@link City} import.
+ * <p>Only the first {@value #MAXIMUM_ERRORS} errors are kept, the rejected counter keeps counting all of them.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CityImportResponse extends GenericDTO {
+
+    static final int MAXIMUM_ERRORS = 100;
+
+    private long read;
+    private long created;
+    private long existent;
+    private long rejected;
+    private List<String> errors = new ArrayList<>();
+
+    /**
+     * Main constructor, empty.
+     */
+    public CityImportResponse() {
+    }
+
+    /**
+     * Counts a row read from the file.
+     */
+    void addRead() {
+        this.read++;
+    }
+
+    /**
+     * Counts the cities created.
+     *
+     * @param count number of cities created
+     */
+    void addCreated(final long count) {
+        this.created += count;
+    }
+
+    /**
+     * Counts the cities already existent.
+     *
+     * @param count number of cities already existent
+     */
+    void addExistent(final long count) {
+        this.existent += count;
+    }
+
+    /**
+     * Counts a row rejected, keeping the reason of it.
+     *
+     * @param line  number of the line rejected, starting from one
+     * @param error reason of the rejection
+     */
+    void addRejected(final long line, final String error) {
+        this.rejected++;
+        if (this.errors.size() < MAXIMUM_ERRORS) {
+            this.errors.add("Line " + line + ": " + error);
+        }
+    }
+
+    public long getRead() {
+        return read;
+    }
+
+    public void setRead(final long read) {
+        this.read = read;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(final long created) {
+        this.created = created;
+    }
+
+    public long getExistent() {
+        return existent;
+    }
+
+    public void setExistent(final long existent) {
+        this.existent = existent;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(final long rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(final List<String> errors) {
+        this.errors = errors;
+    }
+
+    @Override
+    public String toString() {
+        return "CityImportResponse{" +
+                       "read=" + read +
+                       ", created=" + created +
+                       ", existent=" + existent +
+                       ", rejected=" + rejected +
+                       '}';
+    }
+}
@@ -0,0 +1,216 @@
+package com.eduardomallmann.compasso.technicaltest.domains.city;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Component responsible to import {@link City} registers from a CSV stream, a row at a time.
+ * <p>The city and state columns are found by the header, named {@code city}, {@code name}, {@code cidade}, {@code nome} or {@code municipio} and
+ * {@code state}, {@code estado} or {@code uf}, or are the first two columns when there is no header. A first row with some of these names that
+ * doesn't name both columns is rejected as an unknown header instead of being imported as a city. Columns may be separated by commas or semicolons
+ * and quoted with double quotes. Each row is normalized as {@link CityDTO#getCityObject()} does, and the new cities are inserted in batches, skipping
+ * the ones the {@link CityRegistry} already knows, so the {@code uc_cities_name_state} constraint is never hit by the import itself.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@Component
+public class CityImporter {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final List<String> NAME_HEADERS = Arrays.asList("city", "name", "cidade", "nome", "municipio", "município");
+    private static final List<String> STATE_HEADERS = Arrays.asList("state", "estado", "uf");
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+    private final CityRepository cityRepository;
+    private final CityRegistry cityRegistry;
+    private final CityResolver cityResolver;
+    private final String importFile;
+
+    /**
+     * Main constructor with components injection.
+     *
+     * @param cityRepository {@link CityRepository} component
+     * @param cityRegistry   {@link CityRegistry} component
+     * @param cityResolver   {@link CityResolver} component
+     * @param importFile     path of the CSV file imported at startup, blank to import none
+     */
+    public CityImporter(final CityRepository cityRepository,
+                        final CityRegistry cityRegistry,
+                        final CityResolver cityResolver,
+                        @Value("${technicaltest.cities.import-file:}") final String importFile) {
+        this.cityRepository = cityRepository;
+        this.cityRegistry = cityRegistry;
+        this.cityResolver = cityResolver;
+        this.importFile = importFile;
+    }
+
+    /**
+     * Imports the CSV file configured once the application is ready and the cities are loaded in memory.
+     *
+     * @throws IOException in case of the file can't be read.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void importFile() throws IOException {
+        if (this.importFile == null || this.importFile.trim().isEmpty()) return;
+        final Path path = Paths.get(this.importFile.trim());
+        log.info("Importing cities from file {}", path);
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            log.info("Cities imported from file {}: {}", path, this.importCities(reader));
+        }
+    }
+
+    /**
+     * Imports the {@link City} registers of a CSV stream.
+     *
+     * @param reader the CSV stream
+     *
+     * @return a {@link CityImportResponse} object with the import summary.
+     *
+     * @throws IOException in case of the stream can't be read.
+     */
+    public CityImportResponse importCities(final BufferedReader reader) throws IOException {
+        final CityImportResponse response = new CityImportResponse();
+        final Map<String, City> batch = new LinkedHashMap<>();
+        String line = reader.readLine();
+        if (line != null && line.startsWith("\uFEFF")) {
+            line = line.substring(1);
+        }
+        if (line == null) return response;
+        final char delimiter = line.indexOf(';') >= 0 && line.indexOf(',') < 0 ? ';' : ',';
+        int cityColumn = 0;
+        int stateColumn = 1;
+        long lineNumber = 1;
+        final List<String> header = split(line, delimiter);
+        final int nameHeader = indexOf(header, NAME_HEADERS);
+        final int stateHeader = indexOf(header, STATE_HEADERS);
+        if (nameHeader >= 0 && stateHeader >= 0) {
+            cityColumn = nameHeader;
+            stateColumn = stateHeader;
+            line = reader.readLine();
+            lineNumber++;
+        } else if (nameHeader >= 0 || stateHeader >= 0) {
+            response.addRead();
+            response.addRejected(lineNumber, "unknown header, the city and state columns must be named");
+            log.warn("Cities import header not recognized, rows read by position: {}", line);
+            line = reader.readLine();
+            lineNumber++;
+        }
+        for (; line != null; line = reader.readLine(), lineNumber++) {
+            if (line.trim().isEmpty()) continue;
+            response.addRead();
+            final List<String> columns = split(line, delimiter);
+            final String name = columns.size() > cityColumn ? columns.get(cityColumn).trim() : "";
+            final String state = columns.size() > stateColumn ? columns.get(stateColumn).trim() : "";
+            if (name.isEmpty() || state.isEmpty()) {
+                response.addRejected(lineNumber, "city and state must not be blank");
+                continue;
+            }
+            final City city = new CityDTO(name, state).getCityObject();
+            final String key = CityRegistry.key(city.getName(), city.getState());
+            if (batch.containsKey(key) || this.cityRegistry.findByNameAndState(city.getName(), city.getState()).isPresent()) {
+                response.addExistent(1);
+                continue;
+            }
+            batch.put(key, city);
+            if (batch.size() == BATCH_SIZE) {
+                this.saveBatch(batch, response);
+            }
+        }
+        this.saveBatch(batch, response);
+        return response;
+    }
+
+    /**
+     * Inserts a batch of new {@link City} objects in a single transaction.
+     * <p>When a city of the batch is created concurrently, the batch is rolled back and each city is got or created on its own.</p>
+     *
+     * @param batch    new {@link City} objects by their registry key
+     * @param response {@link CityImportResponse} object that receives the counters
+     */
+    private void saveBatch(final Map<String, City> batch, final CityImportResponse response) {
+        if (batch.isEmpty()) return;
+        final List<City> cities = new ArrayList<>(batch.values());
+        batch.clear();
+        try {
+            this.cityRepository.saveAll(cities);
+            response.addCreated(cities.size());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Cities import batch hit existent cities, resolving them one by one: {}", e.getMessage());
+            for (City city : cities) {
+                if (this.cityRepository.findByNameAndState(city.getName(), city.getState()).isPresent()) {
+                    response.addExistent(1);
+                } else {
+                    this.cityResolver.resolve(new City(city.getName(), city.getState()));
+                    response.addCreated(1);
+                }
+            }
+        }
+        log.info("Cities import progress: {} rows read, {} created, {} existent, {} rejected",
+                 response.getRead(), response.getCreated(), response.getExistent(), response.getRejected());
+    }
+
+    /**
+     * Splits a CSV line into its columns, handling the double quoted ones.
+     *
+     * @param line      the CSV line
+     * @param delimiter the columns delimiter
+     *
+     * @return the list of the line columns.
+     */
+    static List<String> split(final String line, final char delimiter) {
+        final List<String> columns = new ArrayList<>();
+        final StringBuilder column = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char current = line.charAt(i);
+            if (quoted) {
+                if (current == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    column.append('"');
+                    i++;
+                } else if (current == '"') {
+                    quoted = false;
+                } else {
+                    column.append(current);
+                }
+            } else if (current == '"') {
+                quoted = true;
+            } else if (current == delimiter) {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(current);
+            }
+        }
+        columns.add(column.toString());
+        return columns;
+    }
+
+    private static int indexOf(final List<String> header, final List<String> names) {
+        for (int i = 0; i < header.size(); i++) {
+            if (names.contains(header.get(i).trim().toLowerCase(Locale.ROOT))) return i;
+        }
+        return -1;
+    }
+}
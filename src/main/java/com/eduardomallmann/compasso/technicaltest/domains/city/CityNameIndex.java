@@ -0,0 +1,136 @@
+package com.eduardomallmann.compasso.technicaltest.domains.city;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory trigram inverted index over the {@link City} name property.
+ * <p>It answers the same substring searches as the {@code LIKE '%name%'} query of {@link CityRepository#findAllByNameLike(String)}, keeping the results in the
+ * identifier order the database table scan returns them.</p>
+ * <p>The index is loaded at startup by {@link CityService} and kept in sync by the {@link CityEvent} published on every write.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@Component
+public class CityNameIndex {
+
+    private static final int GRAM_SIZE = 3;
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+    private final ConcurrentSkipListMap<Long, City> cities = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<String, NavigableSet<Long>> grams = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * Loads the index with the {@link City} registers informed and marks it as ready to be searched.
+     *
+     * @param registers all {@link City} registers of the database
+     */
+    public void load(final Collection<City> registers) {
+        registers.forEach(this::add);
+        this.loaded = true;
+        log.debug("City name index loaded with {} cities and {} grams", this.cities.size(), this.grams.size());
+    }
+
+    /**
+     * Verifies if the index can answer the search for the name informed.
+     * <p>Names carrying {@code LIKE} wildcards or escape characters must be searched in the database to keep its semantics.</p>
+     *
+     * @param name full or partial city name, lower cased
+     *
+     * @return {@code true} if the search can be answered by {@link CityNameIndex#findAllByNameContaining(String)}.
+     */
+    public boolean supports(final String name) {
+        return this.loaded && name.indexOf('%') < 0 && name.indexOf('_') < 0 && name.indexOf('\\') < 0;
+    }
+
+    /**
+     * Finds all {@link City} registers which name contains the value informed, ordered by their identifier.
+     *
+     * @param name full or partial city name, lower cased
+     *
+     * @return A list of {@link City} objects.
+     */
+    public List<City> findAllByNameContaining(final String name) {
+        if (name.length() < GRAM_SIZE) {
+            return this.filter(this.cities.keySet(), name);
+        }
+        NavigableSet<Long> candidates = null;
+        for (int i = 0; i + GRAM_SIZE <= name.length(); i++) {
+            final NavigableSet<Long> ids = this.grams.get(name.substring(i, i + GRAM_SIZE));
+            if (ids == null || ids.isEmpty()) {
+                return Collections.emptyList();
+            }
+            if (candidates == null || ids.size() < candidates.size()) {
+                candidates = ids;
+            }
+        }
+        return this.filter(candidates, name);
+    }
+
+    /**
+     * Keeps the index in sync with the cities table once the transaction that changed it is committed.
+     *
+     * @param event the {@link CityEvent} published
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCityEvent(final CityEvent event) {
+        if (event.isRemoved()) {
+            this.remove(event.getCity());
+        } else {
+            this.add(event.getCity());
+        }
+    }
+
+    private List<City> filter(final Collection<Long> ids, final String name) {
+        final List<City> result = new ArrayList<>();
+        for (Long id : ids) {
+            final City city = this.cities.get(id);
+            if (city != null && city.getName().contains(name)) {
+                result.add(city);
+            }
+        }
+        return result;
+    }
+
+    private void add(final City city) {
+        final City previous = this.cities.put(city.getId(), city);
+        if (previous != null && !previous.getName().equals(city.getName())) {
+            this.removeGrams(previous);
+        }
+        final String name = city.getName();
+        for (int i = 0; i + GRAM_SIZE <= name.length(); i++) {
+            this.grams.computeIfAbsent(name.substring(i, i + GRAM_SIZE), gram -> new ConcurrentSkipListSet<>()).add(city.getId());
+        }
+    }
+
+    private void remove(final City city) {
+        final City previous = this.cities.remove(city.getId());
+        if (previous != null) {
+            this.removeGrams(previous);
+        }
+    }
+
+    private void removeGrams(final City city) {
+        final String name = city.getName();
+        for (int i = 0; i + GRAM_SIZE <= name.length(); i++) {
+            final NavigableSet<Long> ids = this.grams.get(name.substring(i, i + GRAM_SIZE));
+            if (ids != null) {
+                ids.remove(city.getId());
+            }
+        }
+    }
+}
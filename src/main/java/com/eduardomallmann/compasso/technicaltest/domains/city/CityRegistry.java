@@ -0,0 +1,67 @@
+package com.eduardomallmann.compasso.technicaltest.domains.city;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory registry of the canonical {@link City} instances, keyed by their lower cased name and state.
+ * <p>Cities never change once created, so the registry is loaded at startup by {@link CityService} and only follows the {@link CityEvent} published on every write,
+ * letting the {@link CityResolver} skip the database lookup for the cities already known.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@Component
+public class CityRegistry {
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+    private final ConcurrentMap<String, City> cities = new ConcurrentHashMap<>();
+
+    /**
+     * Loads the registry with the {@link City} registers informed.
+     *
+     * @param registers all {@link City} registers of the database
+     */
+    public void load(final Collection<City> registers) {
+        registers.forEach(city -> this.cities.putIfAbsent(key(city.getName(), city.getState()), city));
+        log.debug("City registry loaded with {} cities", this.cities.size());
+    }
+
+    /**
+     * Finds the canonical {@link City} instance by its name and state.
+     *
+     * @param name  full name of the city, lower cased
+     * @param state full state name, lower cased
+     *
+     * @return an optional {@link City} object.
+     */
+    public Optional<City> findByNameAndState(final String name, final String state) {
+        return Optional.ofNullable(this.cities.get(key(name, state)));
+    }
+
+    /**
+     * Keeps the registry in sync with the cities table once the transaction that changed it is committed.
+     *
+     * @param event the {@link CityEvent} published
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCityEvent(final CityEvent event) {
+        final City city = event.getCity();
+        if (event.isRemoved()) {
+            this.cities.remove(key(city.getName(), city.getState()));
+        } else {
+            this.cities.put(key(city.getName(), city.getState()), city);
+        }
+    }
+
+    static String key(final String name, final String state) {
+        return name.concat("\u0000").concat(state);
+    }
+}
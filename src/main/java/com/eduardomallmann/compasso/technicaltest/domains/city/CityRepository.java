@@ -1,5 +1,7 @@
 package com.eduardomallmann.compasso.technicaltest.domains.city;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -25,6 +27,17 @@ public interface CityRepository extends JpaRepository<City, Long> {
      */
     List<City> findAllByNameLike(final String name);
 
+    /**
+     * Find a page of {@link City} registers with a name like the param passed.
+     * <p>The name param can be full or partial.</p>
+     *
+     * @param name     full or partial city name
+     * @param pageable the page requested
+     *
+     * @return A page of {@link City} objects.
+     */
+    Page<City> findAllByNameLike(final String name, final Pageable pageable);
+
     /**
      * Find all {@link City} registers with the same state property.
      * <p>The state param must be fully compatible with the property value</p>
@@ -35,6 +48,17 @@ public interface CityRepository extends JpaRepository<City, Long> {
      */
     List<City> findAllByState(final String state);
 
+    /**
+     * Find a page of {@link City} registers with the same state property.
+     * <p>The state param must be fully compatible with the property value</p>
+     *
+     * @param state    full state name
+     * @param pageable the page requested
+     *
+     * @return A page of {@link City} objects.
+     */
+    Page<City> findAllByState(final String state, final Pageable pageable);
+
     /**
      * Find a {@link City} register by its name and state.
      *
@@ -44,4 +68,13 @@ public interface CityRepository extends JpaRepository<City, Long> {
      * @return a {@link City} object.
      */
     Optional<City> findByNameAndState(final String name, final String state);
+
+    /**
+     * Find a page of {@link City} registers without the display form of their properties, written before it was persisted.
+     *
+     * @param pageable the page requested
+     *
+     * @return A list of {@link City} objects.
+     */
+    List<City> findAllByDisplayNameIsNullOrDisplayStateIsNull(final Pageable pageable);
 }
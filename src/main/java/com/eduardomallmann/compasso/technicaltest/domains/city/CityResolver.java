@@ -0,0 +1,94 @@
+package com.eduardomallmann.compasso.technicaltest.domains.city;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Component responsible to get or create {@link City} registers without racing on the {@code uc_cities_name_state} unique constraint.
+ * <p>Cities already known are answered by the {@link CityRegistry} without reaching the database. Concurrent calls for a new name and state share a single
+ * in-flight lookup, so only one of them reaches the database and inserts the register, while the others wait for its result.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@Component
+public class CityResolver {
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+    private final CityRepository cityRepository;
+    private final CityRegistry cityRegistry;
+    private final ConcurrentMap<String, CompletableFuture<City>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Main constructor with components injection.
+     *
+     * @param cityRepository {@link CityRepository} component
+     * @param cityRegistry   {@link CityRegistry} component
+     */
+    public CityResolver(final CityRepository cityRepository, final CityRegistry cityRegistry) {
+        this.cityRepository = cityRepository;
+        this.cityRegistry = cityRegistry;
+    }
+
+    /**
+     * Gets the {@link City} register with the name and state of the city informed, creating it when it doesn't exist yet.
+     *
+     * @param city the {@link City} requested, with its name and state lower cased
+     *
+     * @return the {@link City} register persisted.
+     */
+    public City resolve(final City city) {
+        final Optional<City> known = this.cityRegistry.findByNameAndState(city.getName(), city.getState());
+        if (known.isPresent()) {
+            return known.get();
+        }
+        final String key = CityRegistry.key(city.getName(), city.getState());
+        final CompletableFuture<City> lookup = new CompletableFuture<>();
+        final CompletableFuture<City> running = this.inFlight.putIfAbsent(key, lookup);
+        if (running != null) {
+            return this.await(running);
+        }
+        try {
+            final City result = this.findOrCreate(city.getName(), city.getState());
+            lookup.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            lookup.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.inFlight.remove(key, lookup);
+        }
+    }
+
+    private City findOrCreate(final String name, final String state) {
+        Optional<City> existent = this.cityRepository.findByNameAndState(name, state);
+        if (existent.isPresent()) {
+            return existent.get();
+        }
+        try {
+            City created = this.cityRepository.save(new City(name, state));
+            log.debug("City created by resolver: {}", created);
+            return created;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("City {}, {} created concurrently, reading it again", name, state);
+            return this.cityRepository.findByNameAndState(name, state).orElseThrow(() -> e);
+        }
+    }
+
+    private City await(final CompletableFuture<City> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+}
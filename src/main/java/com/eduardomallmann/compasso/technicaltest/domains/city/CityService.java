@@ -1,14 +1,25 @@
 package com.eduardomallmann.compasso.technicaltest.domains.city;
 
+import com.eduardomallmann.compasso.technicaltest.configs.AsyncConfig;
 import com.eduardomallmann.compasso.technicaltest.exceptions.BusinessException;
 import com.eduardomallmann.compasso.technicaltest.utils.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
@@ -21,20 +32,80 @@ import java.util.stream.Collectors;
 @Service
 public class CityService {
 
+    private static final int BACKFILL_PAGE_SIZE = 1_000;
+
     private final Logger log = LoggerFactory.getLogger(this.getClass());
     private final CityRepository cityRepository;
+    private final CityNameIndex cityNameIndex;
+    private final CityAutocompleteIndex cityAutocompleteIndex;
+    private final CityStateCache cityStateCache;
+    private final CityResolver cityResolver;
+    private final CityRegistry cityRegistry;
+    private final CityImporter cityImporter;
 
     /**
      * Main constructor with components injection.
      *
-     * @param cityRepository {@link CityRepository} component
+     * @param cityRepository        {@link CityRepository} component
+     * @param cityNameIndex         {@link CityNameIndex} component
+     * @param cityAutocompleteIndex {@link CityAutocompleteIndex} component
+     * @param cityStateCache        {@link CityStateCache} component
+     * @param cityResolver          {@link CityResolver} component
+     * @param cityRegistry          {@link CityRegistry} component
+     * @param cityImporter          {@link CityImporter} component
      */
-    public CityService(final CityRepository cityRepository) {
+    public CityService(final CityRepository cityRepository,
+                       final CityNameIndex cityNameIndex,
+                       final CityAutocompleteIndex cityAutocompleteIndex,
+                       final CityStateCache cityStateCache,
+                       final CityResolver cityResolver,
+                       final CityRegistry cityRegistry,
+                       final CityImporter cityImporter) {
         this.cityRepository = cityRepository;
+        this.cityNameIndex = cityNameIndex;
+        this.cityAutocompleteIndex = cityAutocompleteIndex;
+        this.cityStateCache = cityStateCache;
+        this.cityResolver = cityResolver;
+        this.cityRegistry = cityRegistry;
+        this.cityImporter = cityImporter;
+    }
+
+    /**
+     * Loads the in-memory city structures with all the {@link City} registers once the application is ready.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadCities() {
+        this.backfillDisplay();
+        List<City> cities = this.cityRepository.findAll();
+        this.cityNameIndex.load(cities);
+        this.cityAutocompleteIndex.load(cities);
+        this.cityRegistry.load(cities);
+        log.debug("Total of cities loaded in memory: {}", cities.size());
+    }
+
+    /**
+     * Computes the display form of the {@link City} registers written before it was persisted, a page at a time.
+     * <p>A failure is only logged, as the registers without it are still normalized when they are read.</p>
+     */
+    private void backfillDisplay() {
+        long total = 0L;
+        try {
+            List<City> page;
+            while (!(page = this.cityRepository.findAllByDisplayNameIsNullOrDisplayStateIsNull(PageRequest.of(0, BACKFILL_PAGE_SIZE))).isEmpty()) {
+                page.forEach(City::normalizeDisplay);
+                this.cityRepository.saveAll(page);
+                total += page.size();
+            }
+            log.debug("Total of cities display form backfilled: {}", total);
+        } catch (Exception e) {
+            log.error("Error on backfilling cities display form after {} registers: {}", total, e.getMessage());
+        }
     }
 
     /**
      * Save a new {@link City} object, if the object already exists it just returns the existent one.
+     * <p>Concurrent calls for the same city are coordinated by the {@link CityResolver}, so the city is inserted only once.</p>
      *
      * @param cityRequest a {@link CityDTO} object with the object creation request
      *
@@ -42,27 +113,43 @@ public class CityService {
      *
      * @throws BusinessException in case of the application throws any kind of exception.
      */
-    @Async
+    @Async(AsyncConfig.WRITE_EXECUTOR)
     public CompletableFuture<Response<CityDTO>> save(final CityDTO cityRequest) throws BusinessException {
         try {
-            Optional<City> city = cityRepository.findByNameAndState(cityRequest.getCity().toLowerCase(), cityRequest.getState().toLowerCase());
-            if (city.isPresent()) {
-                log.debug("City already exists: {}", cityRequest.getNormalized().toJson());
-                return CompletableFuture.completedFuture(Response.of(cityRequest.getNormalized()));
-            }
-            City citySaved = this.cityRepository.save(cityRequest.getCityObject());
-            CityDTO result = new CityDTO(citySaved).getNormalized();
-            log.debug("City created: {}", result.toJson());
+            City city = this.cityResolver.resolve(cityRequest.getCityObject());
+            CityDTO result = CityDTO.normalized(city);
+            log.debug("City resolved: {}", result.toLazyJson());
             return CompletableFuture.completedFuture(Response.of(result));
         } catch (Exception e) {
-            log.error("Error on creating a new city: {} ", cityRequest.getNormalized().toJson());
+            log.error("Error on creating a new city: {} ", cityRequest.getNormalized().toLazyJson());
             log.error("Exception caught: {}", e.getMessage());
             throw new BusinessException("city.save.error", e.getMessage());
         }
     }
 
+    /**
+     * Imports the {@link City} registers of a CSV stream, creating the cities not existent yet.
+     *
+     * @param inputStream the CSV stream, UTF-8 encoded
+     *
+     * @return a {@link CityImportResponse} object with the import summary encapsulated in a {@link Response} object.
+     *
+     * @throws BusinessException in case of the application throws any kind of exception.
+     */
+    public Response<CityImportResponse> importCities(final InputStream inputStream) throws BusinessException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            CityImportResponse result = this.cityImporter.importCities(reader);
+            log.debug("Cities imported: {}", result);
+            return Response.of(result);
+        } catch (Exception e) {
+            log.error("Error on importing cities: {}", e.getMessage());
+            throw new BusinessException("city.import.error", e.getMessage());
+        }
+    }
+
     /**
      * Retrieves all {@link City} objects encapsulated into a {@link CityDTO} object, that matches the similar name passed as parameter.
+     * <p>The search is answered by the {@link CityNameIndex} whenever it can, falling back to the database otherwise.</p>
      *
      * @param cityName partial name of the city
      *
@@ -70,12 +157,15 @@ public class CityService {
      *
      * @throws BusinessException in case of the application throws any kind of exception.
      */
-    @Async
+    @Async(AsyncConfig.SEARCH_EXECUTOR)
     public CompletableFuture<Response<CityDTO>> findAllByNameLike(final String cityName) throws BusinessException {
         try {
-            String cityNameLike = "%".concat(cityName.toLowerCase()).concat("%");
-            List<CityDTO> cities = cityRepository.findAllByNameLike(cityNameLike).stream()
-                                           .map(city -> new CityDTO(city).getNormalized())
+            final String name = cityName.toLowerCase();
+            List<City> found = this.cityNameIndex.supports(name)
+                                       ? this.cityNameIndex.findAllByNameContaining(name)
+                                       : cityRepository.findAllByNameLike("%".concat(name).concat("%"));
+            List<CityDTO> cities = found.stream()
+                                           .map(CityDTO::normalized)
                                            .collect(Collectors.toList());
             log.debug("Total of cities found by name {}: {}", cityName, cities.size());
             return CompletableFuture.completedFuture(Response.of(cities));
@@ -85,8 +175,32 @@ public class CityService {
         }
     }
 
+    /**
+     * Retrieves a page of {@link City} objects encapsulated into a {@link CityDTO} object, that matches the similar name passed as parameter.
+     *
+     * @param cityName partial name of the city
+     * @param pageable the page requested
+     *
+     * @return an asynchronous response with the {@link CityDTO} objects page encapsulated in a {@link Response} object.
+     *
+     * @throws BusinessException in case of the application throws any kind of exception.
+     */
+    @Async(AsyncConfig.SEARCH_EXECUTOR)
+    public CompletableFuture<Response<CityDTO>> findAllByNameLike(final String cityName, final Pageable pageable) throws BusinessException {
+        try {
+            Page<CityDTO> cities = cityRepository.findAllByNameLike("%".concat(cityName.toLowerCase()).concat("%"), pageable)
+                                           .map(CityDTO::normalized);
+            log.debug("Page {} of cities found by name {}: {} of {}", pageable.getPageNumber(), cityName, cities.getNumberOfElements(), cities.getTotalElements());
+            return CompletableFuture.completedFuture(Response.of(cities));
+        } catch (Exception e) {
+            log.error("Error on searching city page by name {}: {}", cityName, e.getMessage());
+            throw new BusinessException("city.list.name.error", e.getMessage());
+        }
+    }
+
     /**
      * Retrieves all {@link City} objects encapsulated into a {@link CityDTO} object, that fully matches its state property passed as parameter.
+     * <p>The registers are read through the {@link CityStateCache}.</p>
      *
      * @param state full state name
      *
@@ -94,13 +208,13 @@ public class CityService {
      *
      * @throws BusinessException in case of the application throws any kind of exception.
      */
-    @Async
+    @Async(AsyncConfig.SEARCH_EXECUTOR)
     public CompletableFuture<Response<CityDTO>> findAllByState(final String state) throws BusinessException {
         try {
-            List<City> cities = cityRepository.findAllByState(state.toLowerCase());
+            List<City> cities = this.cityStateCache.findAllByState(state.toLowerCase());
             log.debug("Total of city found by state {}: {}", state, cities.size());
             return CompletableFuture.completedFuture(Response.of(cities.stream()
-                                                                         .map(city -> new CityDTO(city).getNormalized())
+                                                                         .map(CityDTO::normalized)
                                                                          .collect(Collectors.toList())));
         } catch (Exception e) {
             log.error("Error on searching city by state {}: {}", state, e.getMessage());
@@ -108,4 +222,51 @@ public class CityService {
         }
     }
 
+    /**
+     * Retrieves a page of {@link City} objects encapsulated into a {@link CityDTO} object, that fully matches its state property passed as parameter.
+     *
+     * @param state    full state name
+     * @param pageable the page requested
+     *
+     * @return an asynchronous response with the {@link CityDTO} objects page encapsulated in a {@link Response} object.
+     *
+     * @throws BusinessException in case of the application throws any kind of exception.
+     */
+    @Async(AsyncConfig.SEARCH_EXECUTOR)
+    public CompletableFuture<Response<CityDTO>> findAllByState(final String state, final Pageable pageable) throws BusinessException {
+        try {
+            Page<CityDTO> cities = cityRepository.findAllByState(state.toLowerCase(), pageable)
+                                           .map(CityDTO::normalized);
+            log.debug("Page {} of cities found by state {}: {} of {}", pageable.getPageNumber(), state, cities.getNumberOfElements(), cities.getTotalElements());
+            return CompletableFuture.completedFuture(Response.of(cities));
+        } catch (Exception e) {
+            log.error("Error on searching city page by state {}: {}", state, e.getMessage());
+            throw new BusinessException("city.list.state.error", e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves the first {@link City} objects encapsulated into a {@link CityDTO} object, in alphabetical order, which name starts with the prefix passed as parameter.
+     * <p>The search is answered by the {@link CityAutocompleteIndex} only, it never reaches the database.</p>
+     *
+     * @param prefix start of the city name
+     * @param limit  maximum number of cities returned
+     *
+     * @return a response with {@link CityDTO} objects encapsulated in a {@link Response} object.
+     *
+     * @throws BusinessException in case of the application throws any kind of exception.
+     */
+    public Response<CityDTO> findAllByNameStartingWith(final String prefix, final int limit) throws BusinessException {
+        try {
+            List<CityDTO> cities = this.cityAutocompleteIndex.findAllByNameStartingWith(prefix.toLowerCase(), limit).stream()
+                                           .map(CityDTO::normalized)
+                                           .collect(Collectors.toList());
+            log.debug("Total of cities found by prefix {}: {}", prefix, cities.size());
+            return Response.of(cities);
+        } catch (Exception e) {
+            log.error("Error on searching city by prefix {}: {}", prefix, e.getMessage());
+            throw new BusinessException("city.autocomplete.error", e.getMessage());
+        }
+    }
+
 }
@@ -0,0 +1,74 @@
+package com.eduardomallmann.compasso.technicaltest.domains.city;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Bounded read-through cache of the {@link City} registers by state.
+ * <p>Entries are evicted by size and time to live, and invalidated whenever a {@link CityEvent} changes a city of the state. Hits, misses and evictions are
+ * exported to the application meter registry under the {@code cities.state} cache name.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@Component
+public class CityStateCache {
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+    private final CityRepository cityRepository;
+    private final Cache<String, List<City>> cache;
+
+    /**
+     * Main constructor with components injection.
+     *
+     * @param cityRepository   {@link CityRepository} component
+     * @param meterRegistry    {@link MeterRegistry} component
+     * @param maximumSize      maximum number of states kept in the cache
+     * @param expireAfterWrite time to live of each cached state
+     */
+    public CityStateCache(final CityRepository cityRepository,
+                          final MeterRegistry meterRegistry,
+                          @Value("${technicaltest.cache.cities-by-state.maximum-size:500}") final long maximumSize,
+                          @Value("${technicaltest.cache.cities-by-state.expire-after-write:10m}") final Duration expireAfterWrite) {
+        this.cityRepository = cityRepository;
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(maximumSize)
+                             .expireAfterWrite(expireAfterWrite)
+                             .recordStats()
+                             .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "cities.state");
+    }
+
+    /**
+     * Retrieves all {@link City} registers of the state informed, loading them from the database on a cache miss.
+     *
+     * @param state full state name, lower cased
+     *
+     * @return An unmodifiable list of {@link City} objects.
+     */
+    public List<City> findAllByState(final String state) {
+        return this.cache.get(state, key -> Collections.unmodifiableList(this.cityRepository.findAllByState(key)));
+    }
+
+    /**
+     * Invalidates the state of the changed city once the transaction that changed it is committed.
+     *
+     * @param event the {@link CityEvent} published
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCityEvent(final CityEvent event) {
+        this.cache.invalidate(event.getCity().getState());
+        log.debug("Cities by state cache invalidated for: {}", event.getCity().getState());
+    }
+}
@@ -2,6 +2,11 @@ package com.eduardomallmann.compasso.technicaltest.domains.client;
 
 import com.eduardomallmann.compasso.technicaltest.domains.city.City;
 import com.eduardomallmann.compasso.technicaltest.domains.client.validators.FullName;
+import com.eduardomallmann.compasso.technicaltest.utils.NameNormalizer;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import javax.persistence.*;
 import javax.validation.constraints.Past;
@@ -16,6 +21,7 @@ import java.util.Objects;
  * @since 0.0.1
  */
 @Entity
+@EntityListeners(ClientEntityListener.class)
 @Table(name = "clients")
 public class Client implements Serializable {
 
@@ -23,7 +29,8 @@ public class Client implements Serializable {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "clients_seq")
-    @SequenceGenerator(name = "clients_seq", sequenceName = "clients_id_seq", allocationSize = 1)
+    @GenericGenerator(name = "clients_seq", strategy = "com.eduardomallmann.compasso.technicaltest.utils.HiLoSequenceGenerator",
+            parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "clients_id_seq"))
     private Long id;
     @FullName
     @Column(name = "full_name", nullable = false)
@@ -36,6 +43,13 @@ public class Client implements Serializable {
     @ManyToOne(cascade = CascadeType.DETACH, fetch = FetchType.EAGER)
     @JoinColumn(name="city_id")
     private City city;
+    @Column(name = "display_name")
+    private String displayName;
+    @Column(name = "display_gender")
+    private String displayGender;
+    @Version
+    @Column(name = "version")
+    private Long version;
 
     /**
      * Main constructor, empty.
@@ -101,6 +115,40 @@ public class Client implements Serializable {
         this.city = city;
     }
 
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public void setDisplayName(final String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayGender() {
+        return displayGender;
+    }
+
+    public void setDisplayGender(final String displayGender) {
+        this.displayGender = displayGender;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(final Long version) {
+        this.version = version;
+    }
+
+    /**
+     * Computes the display form of the full name and gender, whenever the register is written.
+     */
+    @PrePersist
+    @PreUpdate
+    public void normalizeDisplay() {
+        this.displayName = NameNormalizer.normalizeDisplay(this.fullName);
+        this.displayGender = NameNormalizer.normalizeDisplay(this.gender);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
@@ -0,0 +1,116 @@
+package com.eduardomallmann.compasso.technicaltest.domains.client;
+
+import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Bounded read-through cache of the {@link ClientResponse} objects by {@link Client} identifier.
+ * <p>Entries are evicted by size, following the frequency and recency of their use, and by time to live. They are only populated by the loads, never
+ * by the writes, and every write invalidates the entry of the changed client once committed: as the invalidation waits for a load of the same
+ * identifier in progress, a load that read the register before the commit never outlives it. Hits, misses and evictions are exported to the
+ * application meter registry under the {@code clients.id} cache name.</p>
+ * <p>Identifiers the {@link ClientIdFilter} tells surely don't exist are answered right away. The ones it can't tell apart and are not found in the
+ * database are kept for a short time in a negative cache, exported under the {@code clients.id.missing} cache name.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@Component
+public class ClientCache {
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+    private final ClientRepository clientRepository;
+    private final ClientIdFilter clientIdFilter;
+    private final Cache<Long, ClientResponse> cache;
+    private final Cache<Long, Boolean> missing;
+
+    /**
+     * Main constructor with components injection.
+     *
+     * @param clientRepository        {@link ClientRepository} component
+     * @param clientIdFilter          {@link ClientIdFilter} component
+     * @param meterRegistry           {@link MeterRegistry} component
+     * @param maximumSize             maximum number of clients kept in the cache
+     * @param expireAfterWrite        time to live of each cached client
+     * @param missingMaximumSize      maximum number of identifiers not found kept in the negative cache
+     * @param missingExpireAfterWrite time to live of each identifier not found
+     */
+    public ClientCache(final ClientRepository clientRepository,
+                       final ClientIdFilter clientIdFilter,
+                       final MeterRegistry meterRegistry,
+                       @Value("${technicaltest.cache.clients-by-id.maximum-size:10000}") final long maximumSize,
+                       @Value("${technicaltest.cache.clients-by-id.expire-after-write:10m}") final Duration expireAfterWrite,
+                       @Value("${technicaltest.cache.missing-clients.maximum-size:100000}") final long missingMaximumSize,
+                       @Value("${technicaltest.cache.missing-clients.expire-after-write:30s}") final Duration missingExpireAfterWrite) {
+        this.clientRepository = clientRepository;
+        this.clientIdFilter = clientIdFilter;
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(maximumSize)
+                             .expireAfterWrite(expireAfterWrite)
+                             .recordStats()
+                             .build();
+        this.missing = Caffeine.newBuilder()
+                               .maximumSize(missingMaximumSize)
+                               .expireAfterWrite(missingExpireAfterWrite)
+                               .recordStats()
+                               .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "clients.id");
+        CaffeineCacheMetrics.monitor(meterRegistry, this.missing, "clients.id.missing");
+    }
+
+    /**
+     * Retrieves the {@link ClientResponse} object of the identifier informed, loading it from the database on a cache miss.
+     * <p>Identifiers not found are kept in the negative cache only, recorded within the load so the invalidation of a client created meanwhile waits
+     * for it.</p>
+     *
+     * @param id {@link Client} database identifier
+     *
+     * @return an optional {@link ClientResponse} object.
+     */
+    public Optional<ClientResponse> findById(final Long id) {
+        if (!this.clientIdFilter.mightContain(id) || this.missing.getIfPresent(id) != null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(this.cache.get(id, this::load));
+    }
+
+    /**
+     * Loads the {@link ClientResponse} object of the identifier informed from the database, recording it in the negative cache when not found.
+     *
+     * @param id {@link Client} database identifier
+     *
+     * @return a {@link ClientResponse} object, null when not found.
+     */
+    private ClientResponse load(final Long id) {
+        final ClientResponse client = this.clientRepository.findById(id).map(ClientResponse::new).orElse(null);
+        if (client == null) {
+            this.missing.put(id, Boolean.TRUE);
+        }
+        return client;
+    }
+
+    /**
+     * Invalidates the entries of the changed client once the transaction that changed it is committed.
+     * <p>The cache entry goes first: its invalidation waits for a load of the same identifier in progress, so a miss that load records is dropped
+     * right after.</p>
+     *
+     * @param event the {@link ClientEvent} published
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClientEvent(final ClientEvent event) {
+        this.cache.invalidate(event.getClient().getId());
+        this.missing.invalidate(event.getClient().getId());
+        log.debug("Clients by id cache invalidated for: {}", event.getClient().getId());
+    }
+}
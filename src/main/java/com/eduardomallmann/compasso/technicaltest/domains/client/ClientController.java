@@ -1,5 +1,8 @@
 package com.eduardomallmann.compasso.technicaltest.domains.client;
 
+import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientBatchResponse;
+import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientBulkDeleteResponse;
+import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientBulkResponse;
 import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientResponse;
 import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientNameRequest;
 import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientRequest;
@@ -13,6 +16,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -27,8 +31,15 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Size;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -44,6 +55,8 @@ import java.util.concurrent.CompletableFuture;
         description = "Describes the access and calls to clients api endpoints. These endpoints are responsible for all interaction between this domain and other systems.")
 public class ClientController implements GenericRestController {
 
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
     private final Logger log = LoggerFactory.getLogger(this.getClass());
     private final ClientService clientService;
 
@@ -72,7 +85,7 @@ public class ClientController implements GenericRestController {
             @ApiResponse(responseCode = "400", description = "Client creation failed")})
     @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
     public DeferredResult<ResponseEntity<Response<ClientResponse>>> createClient(@Valid @RequestBody final ClientRequest clientRequest) throws BusinessException {
-        log.info("Create client request call with: {}", clientRequest.toJson());
+        log.info("Create client request call with: {}", clientRequest.toLazyJson());
         DeferredResult<ResponseEntity<Response<ClientResponse>>> deferredResult = new DeferredResult<>();
         CompletableFuture<Response<ClientResponse>> future = this.clientService.save(clientRequest);
         future.whenCompleteAsync((result, throwable) -> {
@@ -85,6 +98,29 @@ public class ClientController implements GenericRestController {
         return deferredResult;
     }
 
+    /**
+     * Creates the {@link Client} objects of a JSON array or a newline delimited JSON stream of {@link ClientRequest} objects.
+     * <p>The request body is read as a stream, each item is validated on its own and the valid ones are inserted in batches. The response carries the result
+     * of each item, identified by its position in the request.</p>
+     *
+     * @param inputStream the request body stream
+     *
+     * @return a response with the {@link ClientBulkResponse} object encapsulated in a {@link Response} object.
+     *
+     * @throws BusinessException in case of the request body can't be read.
+     */
+    @Operation(summary = "Create Clients in bulk", description = "Creates the clients of a JSON array or a newline delimited JSON stream, returning the result "
+                                                                   + "of each item.",
+            tags = {"Clients Endpoints"})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Clients processed"),
+            @ApiResponse(responseCode = "400", description = "Clients request could not be read")})
+    @PostMapping(value = "/bulk", produces = MediaType.APPLICATION_JSON_VALUE, consumes = {MediaType.APPLICATION_JSON_VALUE, NDJSON_VALUE})
+    public ResponseEntity<Response<ClientBulkResponse>> createClients(final InputStream inputStream) throws BusinessException {
+        log.info("Create clients in bulk request call");
+        return ResponseEntity.ok(Response.of(this.clientService.saveAll(inputStream)));
+    }
+
     /**
      * Removes a {@link Client} object from the application by its database identifier.
      *
@@ -108,6 +144,29 @@ public class ClientController implements GenericRestController {
                                                      .build()));
     }
 
+    /**
+     * Removes the {@link Client} objects of the database identifiers informed in the request body, all at once.
+     * <p>Either all the registers are removed or none of them, and the identifiers not found are ignored.</p>
+     *
+     * @param ids {@link Client} database identifiers
+     *
+     * @return a response with the {@link ClientBulkDeleteResponse} object encapsulated in a {@link Response} object.
+     *
+     * @throws BusinessException in case of the application throws any kind of exception.
+     */
+    @Operation(summary = "Delete Clients in bulk", description = "Removes the clients of all the database identifiers informed in the request body, returning "
+                                                                   + "how many were removed.",
+            tags = {"Clients Endpoints"})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Clients removed"),
+            @ApiResponse(responseCode = "400", description = "Clients removal failed")})
+    @PostMapping(value = "/bulk-delete", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Response<ClientBulkDeleteResponse>> deleteClients(@RequestBody @Size(min = 1, max = 100_000) final List<Long> ids)
+            throws BusinessException {
+        log.info("Delete clients in bulk request call with {} ids", ids.size());
+        return ResponseEntity.ok(Response.of(this.clientService.removeClients(ids)));
+    }
+
     /**
      * Changes the {@link Client} full name for the informed register.
      *
@@ -126,7 +185,7 @@ public class ClientController implements GenericRestController {
     @PatchMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
     public DeferredResult<ResponseEntity<Response<ClientResponse>>> updateClientName(@PathVariable("id") final Long id,
                                                                                      @RequestBody final ClientNameRequest clientName) throws BusinessException {
-        log.info("Update client name request call for id {} with: {}", id, clientName.toJson());
+        log.info("Update client name request call for id {} with: {}", id, clientName.toLazyJson());
         return this.getSearchResult(this.clientService.updateClientName(id, clientName.getName()));
     }
 
@@ -150,6 +209,103 @@ public class ClientController implements GenericRestController {
         return this.getSearchResult(this.clientService.findAllByFullNameLike(clientName));
     }
 
+    /**
+     * Search for the {@link Client} objects of the database identifiers passed as params, in a single call.
+     * <p>The clients are answered in the order of the identifiers, and the identifiers not found are reported in the {@code missing} property.</p>
+     *
+     * @param ids {@link Client} database identifiers, comma separated or repeated
+     *
+     * @return an asynchronous response with {@link ClientBatchResponse} object encapsulated in a {@link Response} object.
+     *
+     * @throws BusinessException in case of the application throws any kind of exception.
+     */
+    @Operation(summary = "Get Clients by ids", description = "Search for the clients of all the database identifiers passed as params at once, reporting the "
+                                                             + "identifiers not found.",
+            tags = {"Clients Endpoints"})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Clients searched"),
+            @ApiResponse(responseCode = "400", description = "Clients search failed")})
+    @GetMapping(params = "ids", produces = MediaType.APPLICATION_JSON_VALUE)
+    public DeferredResult<ResponseEntity<Response<ClientBatchResponse>>> getClientsByIds(@RequestParam("ids") @Size(min = 1, max = 1000)
+                                                                                         final List<Long> ids) throws BusinessException {
+        log.info("Get clients by ids request call with {} ids", ids.size());
+        return this.getSearchResult(this.clientService.findAllByIds(ids));
+    }
+
+    /**
+     * Search for a page of {@link Client} objects that contains in its name the similar name passed as params.
+     * <p>It is selected whenever the {@code page} param is informed, along with the optional {@code size} and {@code sort} params.</p>
+     *
+     * @param clientName partial name of the client
+     * @param pageable   the page requested
+     *
+     * @return an asynchronous response with the {@link ClientResponse} objects page encapsulated in a {@link Response} object.
+     *
+     * @throws BusinessException in case of the application throws any kind of exception.
+     */
+    @Operation(summary = "Get a page of Clients by the Name", description = "Search for a page of clients that contains in its name the similar name passed as params.",
+            tags = {"Clients Endpoints"})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Clients found"),
+            @ApiResponse(responseCode = "400", description = "Clients search failed")})
+    @GetMapping(params = {"name", "page"}, produces = MediaType.APPLICATION_JSON_VALUE)
+    public DeferredResult<ResponseEntity<Response<ClientResponse>>> getClientsByName(@RequestParam("name") final String clientName,
+                                                                                     final Pageable pageable) throws BusinessException {
+        log.info("Get clients by name request call with: {}, {}", clientName, pageable);
+        return this.getSearchResult(this.clientService.findAllByFullNameLike(clientName, pageable));
+    }
+
+    /**
+     * Lists the {@link Client} objects ordered by their database identifiers, a slice at a time.
+     * <p>The {@code next} property of the response carries the continuation token to be sent in the {@code after} param to get the next slice, and it is
+     * absent in the last one. Every slice costs the same no matter how deep the listing is.</p>
+     *
+     * @param after continuation token of the slice, absent for the first one
+     * @param limit maximum number of clients of the slice
+     *
+     * @return an asynchronous response with the {@link ClientResponse} objects slice encapsulated in a {@link Response} object.
+     *
+     * @throws BusinessException in case of the application throws any kind of exception.
+     */
+    @Operation(summary = "List Clients by cursor", description = "Lists the clients ordered by their identifiers, a slice at a time, following the continuation "
+                                                                   + "token sent in the previous slice.",
+            tags = {"Clients Endpoints"})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Clients listed"),
+            @ApiResponse(responseCode = "400", description = "Clients listing failed")})
+    @GetMapping(value = "/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public DeferredResult<ResponseEntity<Response<ClientResponse>>> getClientsByCursor(@RequestParam(value = "after", required = false) final String after,
+                                                                                       @RequestParam(value = "limit", defaultValue = "100") @Min(1) @Max(1000)
+                                                                                       final int limit) throws BusinessException {
+        log.info("Get clients by cursor request call with: {}, {}", after, limit);
+        return this.getSearchResult(this.clientService.findAllAfter(after, limit));
+    }
+
+    /**
+     * Exports all the {@link Client} objects as newline delimited JSON, one {@link ClientResponse} object per line.
+     * <p>The clients are streamed to the response as they are read from the database, so the export runs in constant memory. As the response is already
+     * committed when an error happens, the error is only logged and the response is aborted.</p>
+     *
+     * @return a streamed response with the {@link ClientResponse} objects.
+     */
+    @Operation(summary = "Export Clients", description = "Streams all the clients as newline delimited JSON, ordered by their identifiers.",
+            tags = {"Clients Endpoints"})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Clients exported")})
+    @GetMapping(value = "/export", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportClients() {
+        log.info("Export clients request call");
+        return ResponseEntity.ok()
+                       .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                       .body(outputStream -> {
+                           try {
+                               this.clientService.exportClients(outputStream);
+                           } catch (BusinessException e) {
+                               throw new IOException(e.getMessage(), e);
+                           }
+                       });
+    }
+
     /**
      * Search for a {@link Client} object by its database identifier.
      *
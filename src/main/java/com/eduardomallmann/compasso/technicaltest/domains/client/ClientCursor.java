@@ -0,0 +1,56 @@
+package com.eduardomallmann.compasso.technicaltest.domains.client;
+
+import com.eduardomallmann.compasso.technicaltest.exceptions.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Class responsible to encode and decode the opaque continuation tokens of the {@link Client} keyset listing.
+ * <p>A token carries the identifier of the last {@link Client} register returned, so the next page is read from the primary key index right after it, no
+ * matter how deep the listing is.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+final class ClientCursor {
+
+    private static final String PREFIX = "id:";
+
+    /**
+     * Private constructor, this class must not be instantiated.
+     */
+    private ClientCursor() {
+    }
+
+    /**
+     * Encodes the identifier of the last {@link Client} register returned as a continuation token.
+     *
+     * @param lastId last {@link Client} database identifier returned
+     *
+     * @return an URL safe continuation token.
+     */
+    static String encode(final long lastId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(PREFIX.concat(String.valueOf(lastId)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token into the identifier of the last {@link Client} register returned.
+     *
+     * @param token continuation token, {@code null} or blank to start from the beginning
+     *
+     * @return the last {@link Client} database identifier returned.
+     *
+     * @throws BusinessException in case of the token is not a valid one.
+     */
+    static long decode(final String token) throws BusinessException {
+        if (token == null || token.trim().isEmpty()) return Long.MIN_VALUE;
+        try {
+            final String value = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            if (!value.startsWith(PREFIX)) throw new IllegalArgumentException("Unknown cursor format");
+            return Long.parseLong(value.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("client.cursor.invalid", e.getMessage());
+        }
+    }
+}
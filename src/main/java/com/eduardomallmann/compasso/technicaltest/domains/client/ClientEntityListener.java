@@ -0,0 +1,51 @@
+package com.eduardomallmann.compasso.technicaltest.domains.client;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * JPA entity listener of {@link Client}, it translates every write on the clients table into a {@link ClientEvent}.
+ * <p>Bulk JPQL statements bypass this listener, so the components issuing them must publish the matching events themselves.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@Component
+public class ClientEntityListener {
+
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * Main constructor with components injection.
+     *
+     * @param publisher {@link ApplicationEventPublisher} component
+     */
+    public ClientEntityListener(final ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    /**
+     * Publishes a {@link ClientEvent.Type#SAVED} event after the register is inserted or updated.
+     *
+     * @param client the {@link Client} written
+     */
+    @PostPersist
+    @PostUpdate
+    public void afterSave(final Client client) {
+        this.publisher.publishEvent(new ClientEvent(client, ClientEvent.Type.SAVED));
+    }
+
+    /**
+     * Publishes a {@link ClientEvent.Type#REMOVED} event after the register is deleted.
+     *
+     * @param client the {@link Client} removed
+     */
+    @PostRemove
+    public void afterRemove(final Client client) {
+        this.publisher.publishEvent(new ClientEvent(client, ClientEvent.Type.REMOVED));
+    }
+}
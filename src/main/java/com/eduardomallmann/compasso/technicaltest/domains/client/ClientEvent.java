@@ -0,0 +1,68 @@
+package com.eduardomallmann.compasso.technicaltest.domains.client;
+
+/**
+ * Application event published whenever a {@link Client} register is written to or removed from the clients table.
+ * <p>It carries a detached copy of the entity, so the listeners can keep it without holding a managed instance.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+public class ClientEvent {
+
+    /**
+     * Kind of change applied to the {@link Client} register.
+     */
+    public enum Type {
+        SAVED, REMOVED
+    }
+
+    private final Client client;
+    private final Type type;
+
+    /**
+     * Main constructor, copies the {@link Client} properties informed.
+     *
+     * @param client the {@link Client} changed
+     * @param type   the kind of change
+     */
+    public ClientEvent(final Client client, final Type type) {
+        this.client = new Client(client.getFullName(), client.getGender(), client.getBirthday(), client.getCity());
+        this.client.setId(client.getId());
+        this.client.setDisplayName(client.getDisplayName());
+        this.client.setDisplayGender(client.getDisplayGender());
+        this.type = type;
+    }
+
+    /**
+     * Builds the event of a {@link Client} register removed without being loaded, which carries its identifier only.
+     *
+     * @param id {@link Client} database identifier
+     *
+     * @return a {@link ClientEvent} of the {@link Type#REMOVED} kind.
+     */
+    public static ClientEvent removed(final Long id) {
+        final Client client = new Client();
+        client.setId(id);
+        return new ClientEvent(client, Type.REMOVED);
+    }
+
+    public Client getClient() {
+        return client;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public boolean isRemoved() {
+        return Type.REMOVED.equals(this.type);
+    }
+
+    @Override
+    public String toString() {
+        return "ClientEvent{" +
+                       "id=" + client.getId() +
+                       ", type=" + type +
+                       '}';
+    }
+}
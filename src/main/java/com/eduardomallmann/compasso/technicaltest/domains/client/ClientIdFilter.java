@@ -0,0 +1,104 @@
+package com.eduardomallmann.compasso.technicaltest.domains.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Compact concurrent bitset of the existent {@link Client} identifiers, used to answer the searches of unknown identifiers without reaching the database.
+ * <p>A bit is set as soon as a client is persisted, before the transaction commits, and cleared only after the removal commits, so the filter may tell an
+ * identifier might exist when it doesn't, but never the opposite. Identifiers out of the bitset capacity, and all of them before the filter is loaded at
+ * startup by {@link ClientService}, might exist.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@Component
+public class ClientIdFilter {
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+    private final AtomicLongArray words;
+    private final long capacity;
+    private volatile boolean loaded;
+
+    /**
+     * Main constructor with components injection.
+     *
+     * @param capacity number of identifiers the bitset holds, from zero
+     */
+    public ClientIdFilter(@Value("${technicaltest.filter.client-ids.capacity:16777216}") final long capacity) {
+        this.words = new AtomicLongArray((int) ((capacity + 63) >>> 6));
+        this.capacity = (long) this.words.length() << 6;
+    }
+
+    /**
+     * Verifies if the {@link Client} register of the identifier informed might exist.
+     *
+     * @param id {@link Client} database identifier
+     *
+     * @return {@code false} only if the register surely doesn't exist.
+     */
+    public boolean mightContain(final long id) {
+        if (!this.loaded || id < 0 || id >= this.capacity) return true;
+        return (this.words.get((int) (id >>> 6)) & (1L << id)) != 0;
+    }
+
+    /**
+     * Adds the identifier of an existent {@link Client} register.
+     *
+     * @param id {@link Client} database identifier
+     */
+    public void add(final long id) {
+        if (id < 0 || id >= this.capacity) return;
+        final long mask = 1L << id;
+        this.words.getAndUpdate((int) (id >>> 6), word -> word | mask);
+    }
+
+    /**
+     * Removes the identifier of a removed {@link Client} register.
+     *
+     * @param id {@link Client} database identifier
+     */
+    public void remove(final long id) {
+        if (id < 0 || id >= this.capacity) return;
+        final long mask = ~(1L << id);
+        this.words.getAndUpdate((int) (id >>> 6), word -> word & mask);
+    }
+
+    /**
+     * Marks the filter as fully loaded and ready to be used.
+     */
+    public void markLoaded() {
+        this.loaded = true;
+        log.debug("Client id filter loaded with capacity for {} ids", this.capacity);
+    }
+
+    /**
+     * Adds the identifier of a {@link Client} register as soon as it is persisted, still inside its transaction.
+     *
+     * @param event the {@link ClientEvent} published
+     */
+    @EventListener
+    public void onClientSaved(final ClientEvent event) {
+        if (!event.isRemoved()) {
+            this.add(event.getClient().getId());
+        }
+    }
+
+    /**
+     * Removes the identifier of a {@link Client} register once the transaction that removed it is committed.
+     *
+     * @param event the {@link ClientEvent} published
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClientRemoved(final ClientEvent event) {
+        if (event.isRemoved()) {
+            this.remove(event.getClient().getId());
+        }
+    }
+}
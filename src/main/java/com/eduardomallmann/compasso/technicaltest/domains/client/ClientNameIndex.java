@@ -0,0 +1,443 @@
+package com.eduardomallmann.compasso.technicaltest.domains.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory inverted index of the words of the {@link Client} full name property.
+ * <p>Each lower cased word is mapped to the sorted identifiers of the clients which full name has it, kept in chunks so a write copies a single chunk
+ * instead of the whole list. The writes are serialized by word and by client only, and the searches read the chunks without locking.</p>
+ * <p>As the searched words never hold blank characters, a word is contained in a full name only if it is contained in one of its words. The words of
+ * the vocabulary are found by their grams of up to three characters, so the index answers the same {@code LIKE '%word%'} searches as the database
+ * without scanning the whole vocabulary.</p>
+ * <p>The index is loaded at startup by {@link ClientService} and kept in sync by the {@link ClientEvent} published on every write.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@Component
+public class ClientNameIndex {
+
+    static final int CHUNK_SIZE = 256;
+    private static final int GRAM_SIZE = 3;
+    private static final long[] EMPTY = new long[0];
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+    private final ConcurrentMap<String, Posting> postings = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<String>> vocabulary = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, String[]> words = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * Adds or replaces the words of a {@link Client} register in the index.
+     *
+     * @param id       {@link Client} database identifier
+     * @param fullName {@link Client} full name, lower cased
+     */
+    public void put(final Long id, final String fullName) {
+        final String[] current = wordsOf(fullName);
+        this.words.compute(id, (key, previous) -> {
+            if (previous != null) {
+                for (String word : previous) {
+                    if (!contains(current, word)) {
+                        this.removePosting(word, key);
+                    }
+                }
+            }
+            for (String word : current) {
+                this.postings.compute(word, (name, posting) -> {
+                    final Posting result = posting != null ? posting : this.newPosting(name);
+                    result.add(key);
+                    return result;
+                });
+            }
+            return current;
+        });
+    }
+
+    /**
+     * Adds a page of {@link Client} registers to the index at once, appending each word identifiers in a single write.
+     * <p>The clients already indexed by a write event are skipped, as the event is newer than the page.</p>
+     *
+     * @param clients {@link ClientRepository.FullNameView} registers, lower cased
+     */
+    public void putAll(final List<ClientRepository.FullNameView> clients) {
+        final Map<Long, String[]> added = new HashMap<>();
+        final Map<String, List<Long>> page = new HashMap<>();
+        for (ClientRepository.FullNameView client : clients) {
+            if (!this.words.containsKey(client.getId())) {
+                final String[] current = wordsOf(client.getFullName());
+                added.put(client.getId(), current);
+                for (String word : current) {
+                    page.computeIfAbsent(word, key -> new ArrayList<>()).add(client.getId());
+                }
+            }
+        }
+        page.forEach((word, ids) -> {
+            final long[] sorted = ids.stream().mapToLong(Long::longValue).sorted().toArray();
+            this.postings.compute(word, (name, posting) -> {
+                final Posting result = posting != null ? posting : this.newPosting(name);
+                result.addAll(sorted);
+                return result;
+            });
+        });
+        added.forEach((id, current) -> this.words.compute(id, (key, existing) -> {
+            if (existing == null) return current;
+            for (String word : current) {
+                if (!contains(existing, word)) {
+                    this.removePosting(word, key);
+                }
+            }
+            return existing;
+        }));
+    }
+
+    /**
+     * Removes a {@link Client} register from the index.
+     *
+     * @param id {@link Client} database identifier
+     */
+    public void remove(final Long id) {
+        this.words.computeIfPresent(id, (key, previous) -> {
+            for (String word : previous) {
+                this.removePosting(word, key);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Marks the index as fully loaded and ready to be searched.
+     */
+    public void markLoaded() {
+        this.loaded = true;
+        log.debug("Client name index loaded with {} clients and {} words", this.words.size(), this.postings.size());
+    }
+
+    /**
+     * Verifies if the index can answer the search for the words informed.
+     * <p>Empty words and words carrying {@code LIKE} wildcards or escape characters must be searched in the database to keep its semantics.</p>
+     *
+     * @param names words of the client name, lower cased
+     *
+     * @return {@code true} if the search can be answered by {@link ClientNameIndex#findAllByFullNameLike(List)}.
+     */
+    public boolean supports(final List<String> names) {
+        return this.loaded && names.stream().allMatch(name -> !name.isEmpty() && name.indexOf('%') < 0 && name.indexOf('_') < 0 && name.indexOf('\\') < 0);
+    }
+
+    /**
+     * Finds the identifiers of the {@link Client} registers which full name contains any of the words informed.
+     * <p>The identifiers are ordered by the first word they match and then ascending, without duplicates.</p>
+     *
+     * @param names words of the client name, lower cased
+     *
+     * @return an array of {@link Client} database identifiers.
+     */
+    public long[] findAllByFullNameLike(final List<String> names) {
+        final long[][] matches = new long[names.size()][];
+        int total = 0;
+        for (int i = 0; i < names.size(); i++) {
+            matches[i] = this.findAllByWordContaining(names.get(i));
+            total += matches[i].length;
+        }
+        final long[] result = new long[total];
+        int size = 0;
+        for (int i = 0; i < matches.length; i++) {
+            for (long id : matches[i]) {
+                boolean seen = false;
+                for (int j = 0; j < i && !seen; j++) {
+                    seen = Arrays.binarySearch(matches[j], id) >= 0;
+                }
+                if (!seen) {
+                    result[size++] = id;
+                }
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Keeps the index in sync with the clients table once the transaction that changed it is committed.
+     *
+     * @param event the {@link ClientEvent} published
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClientEvent(final ClientEvent event) {
+        if (event.isRemoved()) {
+            this.remove(event.getClient().getId());
+        } else {
+            this.put(event.getClient().getId(), event.getClient().getFullName());
+        }
+    }
+
+    private long[] findAllByWordContaining(final String name) {
+        final List<long[]> lists = new ArrayList<>();
+        int total = 0;
+        for (String word : this.wordsContaining(name)) {
+            final Posting posting = this.postings.get(word);
+            if (posting != null) {
+                final long[] ids = posting.toArray();
+                lists.add(ids);
+                total += ids.length;
+            }
+        }
+        if (lists.isEmpty()) return EMPTY;
+        if (lists.size() == 1) return lists.get(0);
+        final long[] union = new long[total];
+        int offset = 0;
+        for (long[] ids : lists) {
+            System.arraycopy(ids, 0, union, offset, ids.length);
+            offset += ids.length;
+        }
+        Arrays.sort(union);
+        int size = 0;
+        for (int i = 0; i < union.length; i++) {
+            if (i == 0 || union[i] != union[i - 1]) {
+                union[size++] = union[i];
+            }
+        }
+        return Arrays.copyOf(union, size);
+    }
+
+    /**
+     * Finds the words of the vocabulary which contain the name informed, through the smallest set of words sharing one of its grams.
+     */
+    private Collection<String> wordsContaining(final String name) {
+        if (name.length() <= GRAM_SIZE) {
+            final Set<String> found = this.vocabulary.get(name);
+            return found != null ? found : Collections.emptySet();
+        }
+        Set<String> candidates = null;
+        for (int i = 0; i + GRAM_SIZE <= name.length(); i++) {
+            final Set<String> found = this.vocabulary.get(name.substring(i, i + GRAM_SIZE));
+            if (found == null) return Collections.emptySet();
+            if (candidates == null || found.size() < candidates.size()) {
+                candidates = found;
+            }
+        }
+        final List<String> result = new ArrayList<>();
+        for (String word : candidates) {
+            if (word.contains(name)) {
+                result.add(word);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates the posting list of a new word, adding the word to the sets of its grams. Called while the word is being computed, so it is never done
+     * concurrently with the removal of the same word.
+     */
+    private Posting newPosting(final String word) {
+        for (String gram : gramsOf(word)) {
+            this.vocabulary.compute(gram, (key, found) -> {
+                final Set<String> result = found != null ? found : ConcurrentHashMap.newKeySet();
+                result.add(word);
+                return result;
+            });
+        }
+        return new Posting();
+    }
+
+    /**
+     * Removes the identifier from the word posting list, removing the word from the vocabulary once it has no identifier left.
+     */
+    private void removePosting(final String word, final Long id) {
+        this.postings.computeIfPresent(word, (name, posting) -> {
+            posting.remove(id);
+            if (!posting.isEmpty()) return posting;
+            for (String gram : gramsOf(name)) {
+                this.vocabulary.computeIfPresent(gram, (key, found) -> {
+                    found.remove(name);
+                    return found.isEmpty() ? null : found;
+                });
+            }
+            return null;
+        });
+    }
+
+    private static Set<String> gramsOf(final String word) {
+        final Set<String> result = new LinkedHashSet<>();
+        for (int size = 1; size <= GRAM_SIZE; size++) {
+            for (int i = 0; i + size <= word.length(); i++) {
+                result.add(word.substring(i, i + size));
+            }
+        }
+        return result;
+    }
+
+    private static String[] wordsOf(final String fullName) {
+        final Set<String> result = new LinkedHashSet<>();
+        for (String word : fullName.split("\\s")) {
+            if (!word.isEmpty()) {
+                result.add(word);
+            }
+        }
+        return result.toArray(new String[0]);
+    }
+
+    private static boolean contains(final String[] values, final String value) {
+        for (String item : values) {
+            if (item.equals(value)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Sorted identifiers of the clients with a word, kept in chunks of up to {@link #CHUNK_SIZE} identifiers ordered among themselves.
+     * <p>The chunks are never changed once published: a write copies the chunk it changes and publishes a new chunks array, so the reads need no lock.
+     * The writes of a word are serialized by the caller.</p>
+     */
+    static final class Posting {
+
+        private volatile long[][] chunks = new long[0][];
+
+        /**
+         * Adds the identifier, splitting its chunk when it is full, unless the identifier is the greatest one, which starts a new chunk.
+         */
+        void add(final long id) {
+            final long[][] current = this.chunks;
+            if (current.length == 0) {
+                this.chunks = new long[][]{{id}};
+                return;
+            }
+            final int index = chunkOf(current, id);
+            final long[] chunk = current[index];
+            final int position = Arrays.binarySearch(chunk, id);
+            if (position >= 0) return;
+            final int insertion = -position - 1;
+            if (chunk.length < CHUNK_SIZE) {
+                final long[][] result = current.clone();
+                result[index] = insert(chunk, insertion, id);
+                this.chunks = result;
+            } else if (index == current.length - 1 && insertion == chunk.length) {
+                final long[][] result = Arrays.copyOf(current, current.length + 1);
+                result[current.length] = new long[]{id};
+                this.chunks = result;
+            } else {
+                final long[] full = insert(chunk, insertion, id);
+                final int half = full.length / 2;
+                final long[][] result = new long[current.length + 1][];
+                System.arraycopy(current, 0, result, 0, index);
+                result[index] = Arrays.copyOfRange(full, 0, half);
+                result[index + 1] = Arrays.copyOfRange(full, half, full.length);
+                System.arraycopy(current, index + 1, result, index + 2, current.length - index - 1);
+                this.chunks = result;
+            }
+        }
+
+        /**
+         * Adds the sorted identifiers, appending them in full chunks when they are all greater than the ones already kept.
+         */
+        void addAll(final long[] ids) {
+            if (ids.length == 0) return;
+            final long[][] current = this.chunks;
+            final long[] last = current.length > 0 ? current[current.length - 1] : null;
+            if (last != null && ids[0] <= last[last.length - 1]) {
+                for (long id : ids) {
+                    this.add(id);
+                }
+                return;
+            }
+            final List<long[]> result = new ArrayList<>(Arrays.asList(current));
+            int offset = 0;
+            if (last != null && last.length < CHUNK_SIZE) {
+                offset = Math.min(CHUNK_SIZE - last.length, ids.length);
+                final long[] filled = Arrays.copyOf(last, last.length + offset);
+                System.arraycopy(ids, 0, filled, last.length, offset);
+                result.set(result.size() - 1, filled);
+            }
+            for (; offset < ids.length; offset += CHUNK_SIZE) {
+                result.add(Arrays.copyOfRange(ids, offset, Math.min(offset + CHUNK_SIZE, ids.length)));
+            }
+            this.chunks = result.toArray(new long[0][]);
+        }
+
+        /**
+         * Removes the identifier, dropping its chunk once it is empty.
+         */
+        void remove(final long id) {
+            final long[][] current = this.chunks;
+            if (current.length == 0) return;
+            final int index = chunkOf(current, id);
+            final long[] chunk = current[index];
+            final int position = Arrays.binarySearch(chunk, id);
+            if (position < 0) return;
+            if (chunk.length == 1) {
+                final long[][] result = new long[current.length - 1][];
+                System.arraycopy(current, 0, result, 0, index);
+                System.arraycopy(current, index + 1, result, index, current.length - index - 1);
+                this.chunks = result;
+            } else {
+                final long[][] result = current.clone();
+                final long[] changed = new long[chunk.length - 1];
+                System.arraycopy(chunk, 0, changed, 0, position);
+                System.arraycopy(chunk, position + 1, changed, position, chunk.length - position - 1);
+                result[index] = changed;
+                this.chunks = result;
+            }
+        }
+
+        boolean isEmpty() {
+            return this.chunks.length == 0;
+        }
+
+        /**
+         * Copies the identifiers of the chunks published at the call into a single sorted array.
+         */
+        long[] toArray() {
+            final long[][] current = this.chunks;
+            int total = 0;
+            for (long[] chunk : current) {
+                total += chunk.length;
+            }
+            final long[] result = new long[total];
+            int offset = 0;
+            for (long[] chunk : current) {
+                System.arraycopy(chunk, 0, result, offset, chunk.length);
+                offset += chunk.length;
+            }
+            return result;
+        }
+
+        /**
+         * Finds the last chunk which first identifier is not greater than the one informed, or the first chunk when there is none.
+         */
+        private static int chunkOf(final long[][] chunks, final long id) {
+            int low = 0;
+            int high = chunks.length - 1;
+            while (low < high) {
+                final int middle = (low + high + 1) >>> 1;
+                if (chunks[middle][0] <= id) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return low;
+        }
+
+        private static long[] insert(final long[] ids, final int insertion, final long id) {
+            final long[] result = new long[ids.length + 1];
+            System.arraycopy(ids, 0, result, 0, insertion);
+            result[insertion] = id;
+            System.arraycopy(ids, insertion, result, insertion + 1, ids.length - insertion);
+            return result;
+        }
+    }
+}
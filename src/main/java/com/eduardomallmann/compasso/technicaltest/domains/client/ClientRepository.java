@@ -1,12 +1,24 @@
 package com.eduardomallmann.compasso.technicaltest.domains.client;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 /**
  * Interface that defines the calls of {@link Client} to clients table in the database.
@@ -15,7 +27,7 @@ import java.util.List;
  * @since 0.0.1
  */
 @Repository
-public interface ClientRepository extends JpaRepository<Client, Long> {
+public interface ClientRepository extends JpaRepository<Client, Long>, JpaSpecificationExecutor<Client> {
 
     /**
      * Find all {@link Client} registers with a name like the param passed.
@@ -28,13 +40,93 @@ public interface ClientRepository extends JpaRepository<Client, Long> {
     List<Client> findAllByFullNameLike(final String name);
 
     /**
-     * Updates the {@link Client} register fullName property, identified by its id.
+     * Find the identifier and full name of the {@link Client} registers with an identifier greater than the param passed, ordered by identifier.
+     * <p>The size of the pageable param limits the number of registers returned, no count query is issued.</p>
+     *
+     * @param id       last {@link Client} database identifier read
+     * @param pageable the registers limit
+     *
+     * @return A list of {@link FullNameView} objects.
+     */
+    @Query("select c.id as id, c.fullName as fullName from Client c where c.id > :id order by c.id")
+    List<FullNameView> findFullNamesByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * Find all {@link Client} registers by their identifiers, with their city fetched in the same query.
+     *
+     * @param ids {@link Client} database identifiers
+     *
+     * @return A list of {@link Client} objects, in no particular order.
+     */
+    @Query("select c from Client c left join fetch c.city where c.id in :ids")
+    List<Client> findAllWithCityByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find the {@link Client} registers with an identifier greater than the param passed, ordered by identifier, with their city fetched in the same query.
+     * <p>The size of the pageable param limits the number of registers returned, no count query is issued.</p>
+     *
+     * @param id       last {@link Client} database identifier read
+     * @param pageable the registers limit
+     *
+     * @return A list of {@link Client} objects.
+     */
+    @Query("select c from Client c left join fetch c.city where c.id > :id order by c.id")
+    List<Client> findAllWithCityByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * Streams all the {@link Client} registers ordered by identifier, with their city fetched in the same query.
+     * <p>The registers are read from the database cursor in batches of the fetch size as the stream is consumed, as read only entities. The stream must be
+     * consumed and closed inside a transaction.</p>
+     *
+     * @return A stream of {@link Client} objects.
+     */
+    @QueryHints(value = {
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false"),
+            @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select c from Client c left join fetch c.city order by c.id")
+    Stream<Client> streamAllWithCity();
+
+    /**
+     * Find the identifiers of the {@link Client} registers among the ones informed, locking the registers found until the end of the transaction.
+     *
+     * @param ids {@link Client} database identifiers
+     *
+     * @return A list of the {@link Client} identifiers found, in no particular order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c.id from Client c where c.id in :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Deletes the {@link Client} registers of the identifiers informed in a single statement, without loading them.
+     *
+     * @param ids {@link Client} database identifiers
      *
-     * @param id   {@link Client} register database identification
-     * @param name value to be placed in {@link Client} fullName property.
+     * @return the number of registers deleted.
      */
     @Modifying
-    @Query("update Client c set c.fullName = :name where c.id = :id")
-    void updateClientFullName(@Param("id") Long id,
-                              @Param("name") String name);
+    @Query("delete from Client c where c.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find a page of {@link Client} registers without the display form of their properties, written before it was persisted, with their city fetched
+     * in the same query.
+     *
+     * @param pageable the page requested
+     *
+     * @return A list of {@link Client} objects.
+     */
+    @Query("select c from Client c left join fetch c.city where c.displayName is null")
+    List<Client> findAllWithCityByDisplayNameIsNull(Pageable pageable);
+
+    /**
+     * Projection of the {@link Client} identifier and full name properties.
+     */
+    interface FullNameView {
+
+        Long getId();
+
+        String getFullName();
+    }
 }
@@ -1,23 +1,56 @@
 package com.eduardomallmann.compasso.technicaltest.domains.client;
 
+import com.eduardomallmann.compasso.technicaltest.configs.AsyncConfig;
 import com.eduardomallmann.compasso.technicaltest.domains.city.City;
-import com.eduardomallmann.compasso.technicaltest.domains.city.CityDTO;
-import com.eduardomallmann.compasso.technicaltest.domains.city.CityRepository;
+import com.eduardomallmann.compasso.technicaltest.domains.city.CityResolver;
+import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientBatchResponse;
+import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientBulkDeleteResponse;
+import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientBulkResponse;
+import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientBulkResult;
 import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientResponse;
 import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientRequest;
 import com.eduardomallmann.compasso.technicaltest.exceptions.BusinessException;
+import com.eduardomallmann.compasso.technicaltest.exceptions.ErrorMessage;
+import com.eduardomallmann.compasso.technicaltest.utils.MessageUtils;
 import com.eduardomallmann.compasso.technicaltest.utils.Response;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service responsible for the business logic of {@link Client} domain.
@@ -28,23 +61,104 @@ import java.util.stream.Collectors;
 @Service
 public class ClientService {
 
+    private static final int LOAD_PAGE_SIZE = 10_000;
+    private static final int FETCH_CHUNK_SIZE = 1_000;
+    private static final int EXPORT_CLEAR_SIZE = 500;
+    private static final int BULK_CHUNK_SIZE = 1_000;
+
     private final Logger log = LoggerFactory.getLogger(this.getClass());
     private final ClientRepository clientRepository;
-    private final CityRepository cityRepository;
+    private final CityResolver cityResolver;
+    private final ClientNameIndex clientNameIndex;
+    private final ClientCache clientCache;
+    private final ClientIdFilter clientIdFilter;
+    private final ApplicationEventPublisher publisher;
+    private volatile BusinessException clientNotFound;
+    private final EntityManager entityManager;
+    private final ObjectWriter exportWriter;
+    private final ObjectReader bulkReader;
+    private final Validator validator;
 
     /**
      * Main constructor with components injection.
      *
      * @param clientRepository {@link ClientRepository} component
-     * @param cityRepository   {@link CityRepository} component
+     * @param cityResolver     {@link CityResolver} component
+     * @param clientNameIndex  {@link ClientNameIndex} component
+     * @param clientCache      {@link ClientCache} component
+     * @param clientIdFilter   {@link ClientIdFilter} component
+     * @param publisher        {@link ApplicationEventPublisher} component
+     * @param entityManager    {@link EntityManager} component
+     * @param objectMapper     {@link ObjectMapper} component
+     * @param validator        {@link Validator} component
      */
-    public ClientService(final ClientRepository clientRepository, final CityRepository cityRepository) {
+    public ClientService(final ClientRepository clientRepository,
+                         final CityResolver cityResolver,
+                         final ClientNameIndex clientNameIndex,
+                         final ClientCache clientCache,
+                         final ClientIdFilter clientIdFilter,
+                         final ApplicationEventPublisher publisher,
+                         final EntityManager entityManager,
+                         final ObjectMapper objectMapper,
+                         final Validator validator) {
         this.clientRepository = clientRepository;
-        this.cityRepository = cityRepository;
+        this.cityResolver = cityResolver;
+        this.clientNameIndex = clientNameIndex;
+        this.clientCache = clientCache;
+        this.clientIdFilter = clientIdFilter;
+        this.publisher = publisher;
+        this.entityManager = entityManager;
+        this.exportWriter = objectMapper.writerFor(ClientResponse.class).without(SerializationFeature.INDENT_OUTPUT);
+        this.bulkReader = objectMapper.readerFor(ClientRequest.class);
+        this.validator = validator;
+    }
+
+    /**
+     * Loads the in-memory client structures with all the {@link Client} registers once the application is ready.
+     * <p>The registers are read in pages by identifier, so each page costs the same no matter the table size.</p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadClients() {
+        this.backfillDisplay();
+        long lastId = 0L;
+        long total = 0L;
+        List<ClientRepository.FullNameView> page;
+        do {
+            page = this.clientRepository.findFullNamesByIdGreaterThan(lastId, PageRequest.of(0, LOAD_PAGE_SIZE));
+            if (!page.isEmpty()) {
+                this.clientNameIndex.putAll(page);
+                page.forEach(client -> this.clientIdFilter.add(client.getId()));
+                lastId = page.get(page.size() - 1).getId();
+                total += page.size();
+            }
+        } while (page.size() == LOAD_PAGE_SIZE);
+        this.clientNameIndex.markLoaded();
+        this.clientIdFilter.markLoaded();
+        log.debug("Total of clients loaded in memory: {}", total);
+    }
+
+    /**
+     * Computes the display form of the {@link Client} registers written before it was persisted, a page at a time.
+     * <p>A failure is only logged, as the registers without it are still normalized when they are read.</p>
+     */
+    private void backfillDisplay() {
+        long total = 0L;
+        try {
+            List<Client> page;
+            while (!(page = this.clientRepository.findAllWithCityByDisplayNameIsNull(PageRequest.of(0, BULK_CHUNK_SIZE))).isEmpty()) {
+                page.forEach(Client::normalizeDisplay);
+                this.clientRepository.saveAll(page);
+                total += page.size();
+            }
+            log.debug("Total of clients display form backfilled: {}", total);
+        } catch (Exception e) {
+            log.error("Error on backfilling clients display form after {} registers: {}", total, e.getMessage());
+        }
     }
 
     /**
-     * Save a new {@link Client} object. It verifies if the {@link City} already exists and uses the existent one, otherwise creates a new {@link City} object.
+     * Save a new {@link Client} object. It verifies if the {@link City} already exists and uses the existent one, otherwise creates a new {@link City} object through
+     * the {@link CityResolver}, which guarantees a single insert for concurrent requests of the same city.
      * <p>It also normalizes the</p>
      *
      * @param clientRequest a {@link ClientResponse} object with the object creation request
@@ -53,33 +167,80 @@ public class ClientService {
      *
      * @throws BusinessException in case of the application throws any kind of exception.
      */
-    @Async
+    @Async(AsyncConfig.WRITE_EXECUTOR)
     public CompletableFuture<Response<ClientResponse>> save(final ClientRequest clientRequest) throws BusinessException {
         try {
             Client client = clientRequest.getClient();
             final boolean hasCity = client.getCity() != null;
             if (hasCity) {
-                Optional<City> city = this.cityRepository.findByNameAndState(client.getCity().getName().toLowerCase(), client.getCity().getState().toLowerCase());
-                if (city.isPresent()) {
-                    client.setCity(city.get());
-                } else {
-                    log.debug("Client creation creating also a new city: {}", new CityDTO(client.getCity()).getNormalized().toJson());
-                    this.cityRepository.save(client.getCity());
-                }
+                client.setCity(this.cityResolver.resolve(client.getCity()));
             }
             this.clientRepository.save(client);
             ClientResponse result = new ClientResponse(client);
-            log.debug("Client created: {}", result.toJson());
+            log.debug("Client created: {}", result.toLazyJson());
             return CompletableFuture.completedFuture(Response.of(result));
         } catch (Exception e) {
-            log.error("Error on creating a new client: {} ", clientRequest.toJson());
+            log.error("Error on creating a new client: {} ", clientRequest.toLazyJson());
             log.error("Exception caught: {}", e.getMessage());
             throw new BusinessException("client.save.error", e.getMessage());
         }
     }
 
+    /**
+     * Creates the {@link Client} registers of a JSON array or a newline delimited JSON stream of {@link ClientRequest} objects.
+     * <p>The items are read one by one and validated, and the valid ones are saved in chunks: the distinct cities of a chunk are resolved once, and the
+     * clients are inserted in JDBC batches in a single transaction per chunk. Invalid items, and the items of a chunk that fails to be saved, are rejected
+     * without stopping the ingestion.</p>
+     *
+     * @param inputStream the stream with the {@link ClientRequest} objects
+     *
+     * @return a {@link ClientBulkResponse} object with the result of each item.
+     *
+     * @throws BusinessException in case of the stream can't be read.
+     */
+    public ClientBulkResponse saveAll(final InputStream inputStream) throws BusinessException {
+        final ClientBulkResponse response = new ClientBulkResponse();
+        final List<Integer> indexes = new ArrayList<>(BULK_CHUNK_SIZE);
+        final List<Client> clients = new ArrayList<>(BULK_CHUNK_SIZE);
+        int index = 0;
+        try (MappingIterator<ClientRequest> requests = this.bulkReader.readValues(inputStream)) {
+            while (requests.hasNextValue()) {
+                final int position = index++;
+                final ClientRequest request;
+                try {
+                    request = requests.nextValue();
+                } catch (JsonMappingException e) {
+                    response.add(new ClientBulkResult(position, null, Collections.singletonList(e.getOriginalMessage())));
+                    continue;
+                }
+                final List<String> errors = request == null
+                                                    ? Collections.singletonList("Client must not be null")
+                                                    : this.validator.validate(request).stream()
+                                                              .map(ConstraintViolation::getMessage)
+                                                              .collect(Collectors.toList());
+                if (!errors.isEmpty()) {
+                    response.add(new ClientBulkResult(position, null, errors));
+                    continue;
+                }
+                indexes.add(position);
+                clients.add(request.getClient());
+                if (clients.size() == BULK_CHUNK_SIZE) {
+                    this.saveChunk(indexes, clients, response);
+                }
+            }
+            this.saveChunk(indexes, clients, response);
+            log.debug("Clients bulk created: {}", response);
+            return response;
+        } catch (Exception e) {
+            log.error("Error on creating clients in bulk after {} items: {}", index, e.getMessage());
+            throw new BusinessException("client.bulk.error", e.getMessage());
+        }
+    }
+
     /**
      * Retrieves all {@link Client} objects encapsulated into a {@link ClientResponse} object, that matches the similar name passed as parameter.
+     * <p>Every word of the name is matched by the {@link ClientNameIndex} and only the registers found are fetched, in batches. When the index can't answer the
+     * search, the words are matched in a single database query. Both ways order the result by the first word matched and then by the register identifier.</p>
      *
      * @param clientName partial or full name of the client
      *
@@ -87,18 +248,21 @@ public class ClientService {
      *
      * @throws BusinessException in case of the application throws any kind of exception.
      */
-    @Async
+    @Async(AsyncConfig.SEARCH_EXECUTOR)
     public CompletableFuture<Response<ClientResponse>> findAllByFullNameLike(final String clientName) throws BusinessException {
         try {
-            final String[] fullName = clientName.split("\\s");
-            List<ClientResponse> clients = new ArrayList<>();
-            for (String name : fullName) {
-                final String clientNameLike = "%".concat(name.toLowerCase()).concat("%");
-                clients.addAll(this.clientRepository.findAllByFullNameLike(clientNameLike).stream()
-                                       .map(ClientResponse::new)
-                                       .collect(Collectors.toList()));
+            final List<String> names = Arrays.stream(clientName.split("\\s")).map(String::toLowerCase).collect(Collectors.toList());
+            final List<Client> clients;
+            if (names.isEmpty()) {
+                clients = Collections.emptyList();
+            } else if (this.clientNameIndex.supports(names)) {
+                clients = this.findAllByIdInOrder(this.clientNameIndex.findAllByFullNameLike(names));
+            } else {
+                clients = this.clientRepository.findAll(ClientSpecifications.fullNameLikeAny(names.stream()
+                                                                                                     .map(name -> "%".concat(name).concat("%"))
+                                                                                                     .collect(Collectors.toList())));
             }
-            List<ClientResponse> result = clients.stream().distinct().collect(Collectors.toList());
+            List<ClientResponse> result = clients.stream().map(ClientResponse::new).collect(Collectors.toList());
             log.debug("Total of clients found by name {}: {}", clientName, result.size());
             return CompletableFuture.completedFuture(Response.of(result));
         } catch (Exception e) {
@@ -107,8 +271,98 @@ public class ClientService {
         }
     }
 
+    /**
+     * Retrieves a page of {@link Client} objects encapsulated into a {@link ClientResponse} object, that matches the similar name passed as parameter.
+     * <p>Every word of the name is matched in a single database query. Without a sort param, the registers are ordered by the first word matched and then by
+     * their identifier.</p>
+     *
+     * @param clientName partial or full name of the client
+     * @param pageable   the page requested
+     *
+     * @return an asynchronous response with the {@link ClientResponse} objects page encapsulated in a {@link Response} object.
+     *
+     * @throws BusinessException in case of the application throws any kind of exception.
+     */
+    @Async(AsyncConfig.SEARCH_EXECUTOR)
+    public CompletableFuture<Response<ClientResponse>> findAllByFullNameLike(final String clientName, final Pageable pageable) throws BusinessException {
+        try {
+            final List<String> patterns = Arrays.stream(clientName.split("\\s"))
+                                                  .map(name -> "%".concat(name.toLowerCase()).concat("%"))
+                                                  .collect(Collectors.toList());
+            if (patterns.isEmpty()) {
+                return CompletableFuture.completedFuture(Response.of(Page.<ClientResponse>empty(pageable)));
+            }
+            Page<ClientResponse> result = this.clientRepository.findAll(ClientSpecifications.fullNameLikeAny(patterns), pageable).map(ClientResponse::new);
+            log.debug("Page {} of clients found by name {}: {} of {}", pageable.getPageNumber(), clientName, result.getNumberOfElements(), result.getTotalElements());
+            return CompletableFuture.completedFuture(Response.of(result));
+        } catch (Exception e) {
+            log.error("Error on searching client page by name {}: {}", clientName, e.getMessage());
+            throw new BusinessException("client.list.name.error", e.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves a slice of {@link Client} objects encapsulated into a {@link ClientResponse} object, ordered by their identifiers and starting right after the
+     * continuation token informed.
+     * <p>One more register than the limit is read to know if there is a next slice, whose continuation token is sent in the {@link Response} object.</p>
+     *
+     * @param cursor continuation token of the slice, {@code null} for the first one
+     * @param limit  maximum number of registers of the slice
+     *
+     * @return an asynchronous response with the {@link ClientResponse} objects slice encapsulated in a {@link Response} object.
+     *
+     * @throws BusinessException in case of the application throws any kind of exception.
+     */
+    @Async(AsyncConfig.SEARCH_EXECUTOR)
+    public CompletableFuture<Response<ClientResponse>> findAllAfter(final String cursor, final int limit) throws BusinessException {
+        try {
+            final long lastId = ClientCursor.decode(cursor);
+            final List<Client> clients = this.clientRepository.findAllWithCityByIdGreaterThan(lastId, PageRequest.of(0, limit + 1));
+            final boolean hasNext = clients.size() > limit;
+            final List<ClientResponse> result = clients.stream().limit(limit).map(ClientResponse::new).collect(Collectors.toList());
+            final String next = hasNext ? ClientCursor.encode(clients.get(limit - 1).getId()) : null;
+            log.debug("Clients listed after id {}: {}", lastId, result.size());
+            return CompletableFuture.completedFuture(Response.of(result, limit, lastId == Long.MIN_VALUE, next));
+        } catch (Exception e) {
+            if (e instanceof BusinessException) throw e;
+            log.error("Error on listing clients after cursor {}: {}", cursor, e.getMessage());
+            throw new BusinessException("client.list.cursor.error", e.getMessage());
+        }
+    }
+
+    /**
+     * Writes all the {@link Client} objects encapsulated into a {@link ClientResponse} object as newline delimited JSON, ordered by their identifiers.
+     * <p>The registers are streamed from the database and written one by one, clearing the persistence context periodically, so the memory used doesn't
+     * grow with the table size.</p>
+     *
+     * @param outputStream the stream where the clients are written
+     *
+     * @throws BusinessException in case of the application throws any kind of exception.
+     */
+    @Transactional
+    public void exportClients(final OutputStream outputStream) throws BusinessException {
+        long total = 0L;
+        try (Stream<Client> clients = this.clientRepository.streamAllWithCity();
+             JsonGenerator generator = this.exportWriter.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            for (Client client : (Iterable<Client>) clients::iterator) {
+                this.exportWriter.writeValue(generator, new ClientResponse(client));
+                generator.writeRaw('\n');
+                if (++total % EXPORT_CLEAR_SIZE == 0) {
+                    this.entityManager.clear();
+                    generator.flush();
+                }
+            }
+            log.debug("Clients exported: {}", total);
+        } catch (Exception e) {
+            log.error("Error on exporting clients after {} registers: {}", total, e.getMessage());
+            throw new BusinessException("client.export.error", e.getMessage());
+        }
+    }
+
     /**
      * Retrieves a {@link Client} object encapsulated into a {@link ClientResponse} object, that matches the identifier.
+     * <p>The object is answered by the {@link ClientCache}, which reaches the database on a cache miss only.</p>
      *
      * @param id {@link Client} database identifier
      *
@@ -116,17 +370,17 @@ public class ClientService {
      *
      * @throws BusinessException in case of the application throws any kind of exception.
      */
-    @Async
+    @Async(AsyncConfig.LOOKUP_EXECUTOR)
     public CompletableFuture<Response<ClientResponse>> findClientById(final Long id) throws BusinessException {
         try {
-            Optional<Client> client = this.clientRepository.findById(id);
+            Optional<ClientResponse> client = this.clientCache.findById(id);
             if (client.isPresent()) {
-                ClientResponse result = new ClientResponse(client.get());
-                log.debug("Client found for id {}: {}", id, result.toJson());
+                ClientResponse result = client.get();
+                log.debug("Client found for id {}: {}", id, result.toLazyJson());
                 return CompletableFuture.completedFuture(Response.of(result));
             } else {
-                log.error("Client not found for id: {}", id);
-                throw new BusinessException("client.search.id.not-found");
+                log.debug("Client not found for id: {}", id);
+                throw this.clientNotFound();
             }
         } catch (Exception e) {
             if (e instanceof BusinessException) throw e;
@@ -135,8 +389,44 @@ public class ClientService {
         }
     }
 
+    /**
+     * Retrieves the {@link Client} objects that match the identifiers informed, encapsulated into a {@link ClientBatchResponse} object.
+     * <p>The clients are fetched with their cities in a single query per thousand identifiers, and answered in the request order without duplicates. The
+     * identifiers not found are reported in the response instead of failing the whole search, and the ones the {@link ClientIdFilter} knows to be absent
+     * don't reach the database.</p>
+     *
+     * @param ids {@link Client} database identifiers
+     *
+     * @return an asynchronous response with {@link ClientBatchResponse} object encapsulated in a {@link Response} object.
+     *
+     * @throws BusinessException in case of the application throws any kind of exception.
+     */
+    @Async(AsyncConfig.LOOKUP_EXECUTOR)
+    public CompletableFuture<Response<ClientBatchResponse>> findAllByIds(final List<Long> ids) throws BusinessException {
+        try {
+            final long[] requested = ids.stream().filter(Objects::nonNull).mapToLong(Long::longValue).distinct().toArray();
+            final List<Client> clients = this.findAllByIdInOrder(Arrays.stream(requested).filter(this.clientIdFilter::mightContain).toArray());
+            final ClientBatchResponse result = new ClientBatchResponse();
+            int next = 0;
+            for (long id : requested) {
+                if (next < clients.size() && clients.get(next).getId() == id) {
+                    result.getClients().add(new ClientResponse(clients.get(next++)));
+                } else {
+                    result.getMissing().add(id);
+                }
+            }
+            log.debug("Clients found for {} ids: {}", requested.length, result);
+            return CompletableFuture.completedFuture(Response.of(result));
+        } catch (Exception e) {
+            log.error("Error on searching clients by ids {}: {}", ids, e.getMessage());
+            throw new BusinessException("client.search.ids.error", e.getMessage());
+        }
+    }
+
     /**
      * Updates the {@link Client} fullName property.
+     * <p>The register is read once, changed and flushed in the same transaction, so the response reflects the managed instance. A concurrent update of
+     * the same register fails the optimistic lock and is answered as a conflict.</p>
      *
      * @param id         id {@link Client} database identifier
      * @param clientName new {@link Client} fullName property
@@ -145,20 +435,23 @@ public class ClientService {
      *
      * @throws BusinessException in case of the application throws any kind of exception.
      */
-    @Async
-    @Transactional
+    @Async(AsyncConfig.WRITE_EXECUTOR)
+    @Transactional(rollbackOn = BusinessException.class)
     public CompletableFuture<Response<ClientResponse>> updateClientName(final Long id, final String clientName) throws BusinessException {
         try {
-            this.clientRepository.updateClientFullName(id, clientName.toLowerCase());
             Optional<Client> client = this.clientRepository.findById(id);
             if (client.isPresent()) {
-                ClientResponse result = new ClientResponse(client.get());
-                log.debug("Client name updated for id {}: {}", id, result.toJson());
+                client.get().setFullName(clientName.toLowerCase());
+                ClientResponse result = new ClientResponse(this.clientRepository.saveAndFlush(client.get()));
+                log.debug("Client name updated for id {}: {}", id, result.toLazyJson());
                 return CompletableFuture.completedFuture(Response.of(result));
             } else {
                 log.error("Client error on update name, id {} not found", id);
                 throw new BusinessException("client.update.response.error");
             }
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.error("Client with id {} updated concurrently: {}", id, e.getMessage());
+            throw new BusinessException("client.update.conflict", e.getMessage(), HttpStatus.CONFLICT.value());
         } catch (Exception e) {
             if (e instanceof BusinessException) throw e;
             log.error("Error on updating client name with id {}: {}", id, e.getMessage());
@@ -183,4 +476,102 @@ public class ClientService {
         }
     }
 
+    /**
+     * Deletes the {@link Client} registers of the identifiers informed, in a single transaction.
+     * <p>The registers are deleted by set based statements of a thousand identifiers each, without being loaded. The identifiers of each chunk are read
+     * first, locking the registers found, and only those are deleted: as the entity listeners are not called by these statements, a {@link ClientEvent}
+     * is published for each register removed, keeping the in-memory client structures in sync once the transaction is committed. Identifiers the
+     * {@link ClientIdFilter} knows to be absent are skipped, and the null and repeated ones are not counted as requested.</p>
+     *
+     * @param ids {@link Client} database identifiers
+     *
+     * @return the {@link ClientBulkDeleteResponse} with the number of registers removed.
+     *
+     * @throws BusinessException in case of the application throws any kind of exception, nothing is removed then.
+     */
+    @Transactional(rollbackOn = BusinessException.class)
+    public ClientBulkDeleteResponse removeClients(final List<Long> ids) throws BusinessException {
+        try {
+            final long[] requested = ids.stream().filter(Objects::nonNull).mapToLong(Long::longValue).distinct().toArray();
+            final long[] candidates = Arrays.stream(requested).filter(this.clientIdFilter::mightContain).toArray();
+            long removed = 0;
+            for (int start = 0; start < candidates.length; start += BULK_CHUNK_SIZE) {
+                final List<Long> existent = this.clientRepository.findIdsByIdIn(
+                        Arrays.stream(candidates, start, Math.min(candidates.length, start + BULK_CHUNK_SIZE)).boxed().collect(Collectors.toList()));
+                if (existent.isEmpty()) continue;
+                removed += this.clientRepository.deleteAllByIdIn(existent);
+                existent.forEach(id -> this.publisher.publishEvent(ClientEvent.removed(id)));
+            }
+            log.debug("Clients bulk removed: {} ids requested, {} registers removed", requested.length, removed);
+            return new ClientBulkDeleteResponse(requested.length, removed);
+        } catch (Exception e) {
+            log.error("Error on removing clients in bulk with {} ids: {}", ids.size(), e.getMessage());
+            throw new BusinessException("client.bulk.delete.error", e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the {@link BusinessException} of a {@link Client} not found, built once with its message already resolved and without stack trace, as it is
+     * thrown for every unknown identifier searched.
+     *
+     * @return the {@link BusinessException} of a {@link Client} not found.
+     */
+    private BusinessException clientNotFound() {
+        BusinessException exception = this.clientNotFound;
+        if (exception == null) {
+            exception = new BusinessException(ErrorMessage.builder().status(400).message("client.search.id.not-found").build());
+            this.clientNotFound = exception;
+        }
+        return exception;
+    }
+
+    /**
+     * Saves a chunk of {@link Client} objects in a single transaction, resolving each distinct city once, and adds their results to the response.
+     *
+     * @param indexes  positions of the clients in the request
+     * @param clients  {@link Client} objects to be saved
+     * @param response {@link ClientBulkResponse} object that receives the results
+     */
+    private void saveChunk(final List<Integer> indexes, final List<Client> clients, final ClientBulkResponse response) {
+        if (clients.isEmpty()) return;
+        try {
+            final Map<City, City> cities = new HashMap<>();
+            for (Client client : clients) {
+                if (client.getCity() != null) {
+                    client.setCity(cities.computeIfAbsent(client.getCity(), this.cityResolver::resolve));
+                }
+            }
+            this.clientRepository.saveAll(clients);
+            for (int i = 0; i < clients.size(); i++) {
+                response.add(new ClientBulkResult(indexes.get(i), clients.get(i).getId(), null));
+            }
+            log.debug("Clients bulk chunk saved: {} items, {} cities, {} items so far", clients.size(), cities.size(), response.getTotal());
+        } catch (Exception e) {
+            log.error("Error on saving clients bulk chunk of {} items: {}", clients.size(), e.getMessage());
+            final List<String> errors = Collections.singletonList(MessageUtils.getMessage("client.save.error"));
+            indexes.forEach(position -> response.add(new ClientBulkResult(position, null, errors)));
+        } finally {
+            indexes.clear();
+            clients.clear();
+        }
+    }
+
+    /**
+     * Fetches the {@link Client} registers of the identifiers informed, in chunks, keeping the identifiers order and skipping the registers not found.
+     *
+     * @param ids {@link Client} database identifiers
+     *
+     * @return A list of {@link Client} objects.
+     */
+    private List<Client> findAllByIdInOrder(final long[] ids) {
+        final List<Client> result = new ArrayList<>(ids.length);
+        for (int start = 0; start < ids.length; start += FETCH_CHUNK_SIZE) {
+            final List<Long> chunk = Arrays.stream(ids, start, Math.min(ids.length, start + FETCH_CHUNK_SIZE)).boxed().collect(Collectors.toList());
+            final Map<Long, Client> found = this.clientRepository.findAllWithCityByIdIn(chunk).stream()
+                                                    .collect(Collectors.toMap(Client::getId, Function.identity()));
+            chunk.stream().map(found::get).filter(Objects::nonNull).forEach(result::add);
+        }
+        return result;
+    }
+
 }
@@ -0,0 +1,49 @@
+package com.eduardomallmann.compasso.technicaltest.domains.client;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Predicate;
+import java.util.List;
+
+/**
+ * Class responsible to keep the {@link Specification} queries of the {@link Client} domain.
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+public final class ClientSpecifications {
+
+    /**
+     * Private constructor, this class must not be instantiated.
+     */
+    private ClientSpecifications() {
+    }
+
+    /**
+     * Builds a {@link Specification} that matches the {@link Client} registers which full name is like any of the patterns informed.
+     * <p>When the query is not a count, the registers are ordered by the first pattern they match and then by their identifier, reproducing the order of one
+     * {@code LIKE} query per pattern with the duplicates removed. The city is fetched in the same query.</p>
+     *
+     * @param patterns {@code LIKE} patterns, at least one
+     *
+     * @return a {@link Specification} of {@link Client}.
+     */
+    public static Specification<Client> fullNameLikeAny(final List<String> patterns) {
+        return (root, query, builder) -> {
+            final Expression<String> fullName = root.get("fullName");
+            final Predicate[] predicates = patterns.stream().map(pattern -> builder.like(fullName, pattern)).toArray(Predicate[]::new);
+            if (!Long.class.equals(query.getResultType()) && !long.class.equals(query.getResultType())) {
+                root.fetch("city", JoinType.LEFT);
+                CriteriaBuilder.Case<Integer> rank = builder.selectCase();
+                for (int i = 0; i < patterns.size(); i++) {
+                    rank = rank.when(builder.like(fullName, patterns.get(i)), i);
+                }
+                query.orderBy(builder.asc(rank.otherwise(patterns.size())), builder.asc(root.get("id")));
+            }
+            return builder.or(predicates);
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.eduardomallmann.compasso.technicaltest.domains.client.dto;
+
+import com.eduardomallmann.compasso.technicaltest.domains.client.Client;
+import com.eduardomallmann.compasso.technicaltest.utils.GenericDTO;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Client data transfer object responsible to encapsulate the result of a {@link Client} search by many identifiers, with the clients found in the request
+ * order and the identifiers not found.
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ClientBatchResponse extends GenericDTO {
+
+    private List<ClientResponse> clients = new ArrayList<>();
+    private List<Long> missing = new ArrayList<>();
+
+    /**
+     * Main constructor, empty.
+     */
+    public ClientBatchResponse() {
+    }
+
+    public List<ClientResponse> getClients() {
+        return clients;
+    }
+
+    public void setClients(final List<ClientResponse> clients) {
+        this.clients = clients;
+    }
+
+    public List<Long> getMissing() {
+        return missing;
+    }
+
+    public void setMissing(final List<Long> missing) {
+        this.missing = missing;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientBatchResponse{" +
+                       "clients=" + clients.size() +
+                       ", missing=" + missing +
+                       '}';
+    }
+}
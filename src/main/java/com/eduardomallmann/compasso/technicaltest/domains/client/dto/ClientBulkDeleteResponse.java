@@ -0,0 +1,59 @@
+package com.eduardomallmann.compasso.technicaltest.domains.client.dto;
+
+import com.eduardomallmann.compasso.technicaltest.domains.client.Client;
+import com.eduardomallmann.compasso.technicaltest.utils.GenericDTO;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Client data transfer object responsible to encapsulate the summary of a {@link Client} bulk removal.
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ClientBulkDeleteResponse extends GenericDTO {
+
+    private long requested;
+    private long removed;
+
+    /**
+     * Main constructor, empty.
+     */
+    public ClientBulkDeleteResponse() {
+    }
+
+    /**
+     * Optional constructor with full params.
+     *
+     * @param requested number of identifiers informed in the request
+     * @param removed   number of {@link Client} registers removed
+     */
+    public ClientBulkDeleteResponse(final long requested, final long removed) {
+        this.requested = requested;
+        this.removed = removed;
+    }
+
+    public long getRequested() {
+        return requested;
+    }
+
+    public void setRequested(final long requested) {
+        this.requested = requested;
+    }
+
+    public long getRemoved() {
+        return removed;
+    }
+
+    public void setRemoved(final long removed) {
+        this.removed = removed;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientBulkDeleteResponse{" +
+                       "requested=" + requested +
+                       ", removed=" + removed +
+                       '}';
+    }
+}
@@ -0,0 +1,85 @@
+package com.eduardomallmann.compasso.technicaltest.domains.client.dto;
+
+import com.eduardomallmann.compasso.technicaltest.domains.client.Client;
+import com.eduardomallmann.compasso.technicaltest.utils.GenericDTO;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Client data transfer object responsible to encapsulate the summary of a {@link Client} bulk creation, with the {@link ClientBulkResult} of each item.
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ClientBulkResponse extends GenericDTO {
+
+    private long total;
+    private long created;
+    private long rejected;
+    private List<ClientBulkResult> results = new ArrayList<>();
+
+    /**
+     * Main constructor, empty.
+     */
+    public ClientBulkResponse() {
+    }
+
+    /**
+     * Adds the result of an item, updating the summary counters.
+     *
+     * @param result the {@link ClientBulkResult} of the item
+     */
+    public void add(final ClientBulkResult result) {
+        this.results.add(result);
+        this.total++;
+        if (result.isCreated()) {
+            this.created++;
+        } else {
+            this.rejected++;
+        }
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(final long total) {
+        this.total = total;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(final long created) {
+        this.created = created;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(final long rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<ClientBulkResult> getResults() {
+        return results;
+    }
+
+    public void setResults(final List<ClientBulkResult> results) {
+        this.results = results;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientBulkResponse{" +
+                       "total=" + total +
+                       ", created=" + created +
+                       ", rejected=" + rejected +
+                       '}';
+    }
+}
@@ -0,0 +1,107 @@
+package com.eduardomallmann.compasso.technicaltest.domains.client.dto;
+
+import com.eduardomallmann.compasso.technicaltest.domains.client.Client;
+import com.eduardomallmann.compasso.technicaltest.utils.GenericDTO;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_EMPTY;
+
+/**
+ * Client data transfer object responsible to encapsulate the result of each item of a {@link Client} bulk creation.
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(NON_EMPTY)
+public class ClientBulkResult extends GenericDTO {
+
+    private int index;
+    private Long id;
+    private List<String> errors;
+
+    /**
+     * Main constructor, empty.
+     */
+    public ClientBulkResult() {
+    }
+
+    /**
+     * Optional constructor with full params.
+     *
+     * @param index  position of the item in the request, starting from zero
+     * @param id     {@link Client} database identifier, when created
+     * @param errors reasons of the item rejection, when rejected
+     */
+    public ClientBulkResult(final int index, final Long id, final List<String> errors) {
+        this.index = index;
+        this.id = id;
+        this.errors = errors;
+    }
+
+    /**
+     * Verifies if the item was created.
+     *
+     * @return {@code true} if the {@link Client} was created.
+     */
+    public boolean isCreated() {
+        return this.id != null;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(final int index) {
+        this.index = index;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(final Long id) {
+        this.id = id;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(final List<String> errors) {
+        this.errors = errors;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final ClientBulkResult that = (ClientBulkResult) o;
+
+        if (index != that.index) return false;
+        if (!Objects.equals(id, that.id)) return false;
+        return Objects.equals(errors, that.errors);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = index;
+        result = 31 * result + (id != null ? id.hashCode() : 0);
+        result = 31 * result + (errors != null ? errors.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientBulkResult{" +
+                       "index=" + index +
+                       ", id=" + id +
+                       ", errors=" + errors +
+                       '}';
+    }
+}
@@ -37,16 +37,22 @@ public class ClientResponse extends GenericDTO {
 
     /**
      * Optional constructor, built from a {@link Client} object.
+     * <p>It takes the display form persisted with the register, normalizing the properties only when it was not persisted.</p>
      *
      * @param client the {@link Client} object
      */
     public ClientResponse(final Client client) {
         this.id = client.getId();
-        this.name = this.normalizeField(client.getFullName());
-        this.gender = client.getGender() != null ? this.normalizeField(client.getGender()) : null;
+        if (client.getDisplayName() != null) {
+            this.name = client.getDisplayName();
+            this.gender = client.getDisplayGender();
+        } else {
+            this.name = this.normalizeField(client.getFullName());
+            this.gender = client.getGender() != null ? this.normalizeField(client.getGender()) : null;
+        }
         this.birthday = client.getBirthday();
         if (client.getCity() != null) {
-            CityDTO city = new CityDTO(client.getCity().getName(), client.getCity().getState()).getNormalized();
+            CityDTO city = CityDTO.normalized(client.getCity());
             this.city = city.getCity();
             this.state = city.getState();
         }
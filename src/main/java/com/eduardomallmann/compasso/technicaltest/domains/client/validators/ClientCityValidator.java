@@ -47,7 +47,7 @@ public class ClientCityValidator implements ConstraintValidator<ClientCityValida
         final boolean hasCity = value.getCity() != null && !value.getCity().trim().isEmpty();
         final boolean hasState = value.getState() != null && !value.getState().trim().isEmpty();
         final boolean result = (!hasCity && !hasState) || (hasCity && hasState);
-        if (!result) log.error("Client city constraint validation failed for: {}", value.toJson());
+        if (!result) log.error("Client city constraint validation failed for: {}", value.toLazyJson());
         return result;
     }
 }
@@ -30,6 +30,23 @@ public class BusinessException extends Exception {
                                     .build();
     }
 
+    /**
+     * Optional constructor, creates an error message with a specific status and converts it into a system error message.
+     * <p>It receives a i18n key related to a business error message, the original error message and the http status to answer with</p>
+     *
+     * @param key    i18n key
+     * @param error  system error message
+     * @param status http status code
+     */
+    public BusinessException(final String key, final String error, final int status) {
+        super(error);
+        this.errorMessage = ErrorMessage.builder()
+                                    .status(status)
+                                    .message(key)
+                                    .errors(error)
+                                    .build();
+    }
+
     /**
      * Optional constructor, creates an error message and converts it into a system error message.
      * <p>It receives a i18n key related to a business error message</p>
@@ -44,6 +61,17 @@ public class BusinessException extends Exception {
                                     .build();
     }
 
+    /**
+     * Optional constructor, creates a lightweight exception with an error message already built.
+     * <p>It neither resolves the message again nor fills the stack trace, so it is meant for expected and frequent failures, and can be built once and
+     * thrown many times.</p>
+     *
+     * @param errorMessage the error message
+     */
+    public BusinessException(final ErrorMessage errorMessage) {
+        super(errorMessage.getMessage(), null, false, false);
+        this.errorMessage = errorMessage;
+    }
 
     public ErrorMessage getErrorMessage() {
         return this.errorMessage;
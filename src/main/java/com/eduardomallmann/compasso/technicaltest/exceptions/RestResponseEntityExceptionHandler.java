@@ -4,6 +4,7 @@ import com.eduardomallmann.compasso.technicaltest.utils.Response;
 import com.eduardomallmann.compasso.technicaltest.utils.ResponseContent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -48,6 +49,31 @@ public class RestResponseEntityExceptionHandler extends ResponseEntityExceptionH
                                                  .build()));
     }
 
+    /**
+     * Handles the tasks rejected by a saturated asynchronous executor, responding service unavailable so the origin retries later.
+     *
+     * @param ex exception thrown
+     *
+     * @return the exceptions in a error message standard inside a response entity.
+     */
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(value = TaskRejectedException.class)
+    @RequestMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    protected ResponseEntity<Response<ResponseContent>> handleRejectedTasks(final TaskRejectedException ex) {
+        log.debug("Handling rejected task: {}", ex.getMessage());
+        final ErrorMessage errorMessage = ErrorMessage.builder()
+                                                  .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                                                  .message("executor.rejected.error")
+                                                  .errors(ex.getMessage())
+                                                  .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                       .header(HttpHeaders.RETRY_AFTER, "1")
+                       .body(Response.of(ResponseContent.builder()
+                                                 .status(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                                                 .errorMessage(errorMessage)
+                                                 .build()));
+    }
+
     /**
      * Handles the global exceptions.
      *
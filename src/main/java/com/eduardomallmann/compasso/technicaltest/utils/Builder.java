@@ -1,18 +1,26 @@
 package com.eduardomallmann.compasso.technicaltest.utils;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * Builder pattern implementation.
  * <p>Acquired from https://howtocodetutorial.wordpress.com/generic-builder-pattern-in-java-8 in 07/22/2019</p>
+ * <p>The constructor of each class, and of each combination of parameter classes, is resolved once and kept as a {@link MethodHandle}, so creating a
+ * builder neither scans the declared constructors nor calls them reflectively.</p>
  *
  * @param <T> The class of the object that will be sent in the response content.
  *
@@ -21,6 +29,28 @@ import java.util.stream.Stream;
  */
 public class Builder<T> {
 
+    private static final Logger log = LoggerFactory.getLogger(Builder.class);
+    private static final MethodType DEFAULT_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType ARGUMENTS_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private static final ClassValue<Optional<MethodHandle>> DEFAULT_CONSTRUCTORS = new ClassValue<Optional<MethodHandle>>() {
+        @Override
+        protected Optional<MethodHandle> computeValue(final Class<?> clazz) {
+            return Stream.of(clazz.getDeclaredConstructors())
+                           .filter(cons -> cons.getParameterCount() == 0)
+                           .findFirst()
+                           .flatMap(cons -> handleOf(cons, DEFAULT_TYPE));
+        }
+    };
+
+    private static final ClassValue<ConcurrentMap<List<Class<?>>, Optional<MethodHandle>>> ARGUMENTS_CONSTRUCTORS =
+            new ClassValue<ConcurrentMap<List<Class<?>>, Optional<MethodHandle>>>() {
+                @Override
+                protected ConcurrentMap<List<Class<?>>, Optional<MethodHandle>> computeValue(final Class<?> clazz) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
     private T instance;
     private boolean ifCond = true;
 
@@ -31,37 +61,81 @@ public class Builder<T> {
      * @param objects parameters to instantiate the constructor
      */
     private Builder(Class<T> clazz, Object... objects) {
+        Optional<MethodHandle> constructor = null == objects ? DEFAULT_CONSTRUCTORS.get(clazz) : constructorOf(clazz, objects);
+        if (constructor.isPresent()) {
+            try {
+                Object created = null == objects ? (Object) constructor.get().invokeExact() : (Object) constructor.get().invokeExact(objects);
+                instance = clazz.cast(created);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                // the constructor failures are only reported, leaving the instance empty, as the reflective call did
+                log.error("Error on instantiating {}: {}", clazz.getName(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Resolves the constructor of the class informed that accepts the parameters informed, once for each combination of parameter classes.
+     *
+     * @param clazz   the class of the instance
+     * @param objects parameters to instantiate the constructor
+     *
+     * @return the constructor handle, taking the parameters as an array, if any matches.
+     */
+    private static Optional<MethodHandle> constructorOf(final Class<?> clazz, final Object[] objects) {
+        final Class<?>[] paramsClass = new Class<?>[objects.length];
+        for (int i = 0; i < objects.length; i++) {
+            paramsClass[i] = objects[i].getClass();
+        }
+        return ARGUMENTS_CONSTRUCTORS.get(clazz).computeIfAbsent(Arrays.asList(paramsClass), params ->
+                Stream.of(clazz.getDeclaredConstructors())
+                        .filter(cons -> cons.getParameterCount() == params.size())
+                        .filter(cons -> matches(cons, params))
+                        .findFirst()
+                        .flatMap(cons -> handleOf(cons, ARGUMENTS_TYPE)));
+    }
+
+    /**
+     * Verifies if every parameter of the constructor accepts any of the parameter classes informed.
+     *
+     * @param cons        the constructor
+     * @param paramsClass classes of the parameters
+     *
+     * @return {@code true} if the constructor can be called with the parameters.
+     */
+    private static boolean matches(final Constructor<?> cons, final List<Class<?>> paramsClass) {
+        return Stream.of(cons.getParameterTypes())
+                       .allMatch(con -> paramsClass.stream()
+                                                .anyMatch(param -> (con.isPrimitive() &&
+                                                                            (Number.class.isAssignableFrom(param) ||
+                                                                                     Boolean.class.isAssignableFrom(param) ||
+                                                                                     Character.class.isAssignableFrom(param) ||
+                                                                                     Byte.class.isAssignableFrom(param))) ||
+                                                                           param.equals(con) ||
+                                                                           param.isAssignableFrom(con) ||
+                                                                           con.isAssignableFrom(param)));
+    }
+
+    /**
+     * Converts the constructor into a handle of the type informed, either without parameters or taking them as an array.
+     *
+     * @param cons the constructor
+     * @param type the type of the handle
+     *
+     * @return the constructor handle, if it can be accessed.
+     */
+    private static Optional<MethodHandle> handleOf(final Constructor<?> cons, final MethodType type) {
         try {
-            Stream<Constructor<?>> constructors = Stream.of(clazz.getDeclaredConstructors()).peek(constructor -> constructor.setAccessible(true));
-            Optional<Constructor<?>> constructor;
-            if (null == objects) {
-                constructor = constructors.filter(cons -> cons.getParameterCount() == 0).findFirst();
-                if (constructor.isPresent()) {
-                    instance = clazz.cast(constructor.get().newInstance());
-                }
-            } else {
-                constructor = constructors.filter(cons -> cons.getParameterCount() == objects.length)
-                                      .filter(cons -> {
-                                          List<Class<?>> consClass = Arrays.asList(cons.getParameterTypes());
-                                          List<Class<?>> paramsClass = Arrays.stream(objects).map(Object::getClass).collect(Collectors.toList());
-                                          return consClass.stream()
-                                                         .allMatch(con -> paramsClass.stream()
-                                                                                  .anyMatch(param -> (con.isPrimitive() &&
-                                                                                                              (Number.class.isAssignableFrom(param) ||
-                                                                                                                       Boolean.class.isAssignableFrom(param) ||
-                                                                                                                       Character.class.isAssignableFrom(param) ||
-                                                                                                                       Byte.class.isAssignableFrom(param))) ||
-                                                                                                             param.equals(con) ||
-                                                                                                             param.isAssignableFrom(con) ||
-                                                                                                             con.isAssignableFrom(param)));
-                                      })
-                                      .findFirst();
-                if (constructor.isPresent()) {
-                    instance = clazz.cast(constructor.get().newInstance(objects));
-                }
+            cons.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflectConstructor(cons).asFixedArity();
+            if (type.parameterCount() > 0) {
+                handle = handle.asSpreader(Object[].class, cons.getParameterCount());
             }
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            e.printStackTrace();
+            return Optional.of(handle.asType(type));
+        } catch (IllegalAccessException e) {
+            log.error("Error on accessing the constructor {}: {}", cons, e.getMessage(), e);
+            return Optional.empty();
         }
     }
 
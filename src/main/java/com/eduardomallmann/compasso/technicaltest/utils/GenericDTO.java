@@ -1,58 +1,68 @@
 package com.eduardomallmann.compasso.technicaltest.utils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-
-import java.util.Arrays;
-import java.util.List;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 public class GenericDTO {
 
+    private static final ObjectWriter JSON_WRITER = new ObjectMapper()
+                                                            .registerModule(new JavaTimeModule())
+                                                            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                                                            .writer();
+
     /**
      * Normalizes a string parameter informed with Camelcase and ignoring prepositions.
      *
      * @param field a String parameter
      *
      * @return a String.
+     *
+     * @see NameNormalizer#normalize(String)
      */
     protected String normalizeField(final String field) {
-        final List<String> vowels = Arrays.asList("a", "e", "o");
-        final String[] words = field.split("\\s");
-        StringBuilder normalizeField = new StringBuilder();
-        for (int i = 0; i < words.length; i++) {
-            String word = words[i];
-            if (i == 0) {
-                normalizeField
-                        .append(word.substring(0, 1).toUpperCase())
-                        .append(word.substring(1).toLowerCase());
-            } else {
-                if ((word.length() <= 3 && word.length() > 1)
-                            && (word.toLowerCase().startsWith("d") && vowels.contains(word.substring(1, 2)) && (word.length() == 2 || word.endsWith("s")))
-                            && i != words.length - 1) {
-                    normalizeField
-                            .append(" ")
-                            .append(word.toLowerCase());
-                } else {
-                    normalizeField
-                            .append(" ")
-                            .append(word.substring(0, 1).toUpperCase())
-                            .append(word.substring(1).toLowerCase());
-                }
-            }
-        }
-        return normalizeField.toString();
+        return NameNormalizer.normalize(field);
     }
 
     /**
      * Writes the object as in Json format as String.
+     * <p>The writer is shared and thread safe, and writes the dates in the ISO format.</p>
      *
      * @return a String.
      */
     public String toJson() {
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.writeValueAsString(this);
+            return JSON_WRITER.writeValueAsString(this);
         } catch (Exception e) {
             return null;
         }
     }
+
+    /**
+     * Wraps the object to be written in Json format only when it is converted to String, as a log message argument.
+     * <p>The Json is not rendered at all when the log level of the message is disabled.</p>
+     *
+     * @return an object which {@code toString} is the object in Json format.
+     */
+    public Object toLazyJson() {
+        return new LazyJson(this);
+    }
+
+    /**
+     * Log message argument that renders the {@link GenericDTO} in Json format on demand.
+     */
+    private static final class LazyJson {
+
+        private final GenericDTO dto;
+
+        private LazyJson(final GenericDTO dto) {
+            this.dto = dto;
+        }
+
+        @Override
+        public String toString() {
+            return this.dto.toJson();
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package com.eduardomallmann.compasso.technicaltest.utils;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * Sequence identifier generator that reserves a block of identifiers for each sequence call, with a configurable block size.
+ * <p>The block size is read from the {@value #INCREMENT_SIZE_SETTING} persistence setting and used as the increment size of the hi/lo optimizer. The
+ * database sequence keeps being incremented by one, each value fetched being the high part of a block of identifiers, so the sequences and registers
+ * already existent keep working with no schema change, and the identifiers generated are always greater than the values the sequence already gave.</p>
+ * <p>As the block of each sequence value is computed from the block size, the setting must never decrease on an existent database, which is
+ * verified at startup by the {@link HiLoSequenceVerifier}.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+public class HiLoSequenceGenerator extends SequenceStyleGenerator {
+
+    /**
+     * Persistence setting of the number of identifiers reserved for each sequence call.
+     */
+    public static final String INCREMENT_SIZE_SETTING = "technicaltest.id.increment_size";
+    /**
+     * Number of identifiers reserved for each sequence call when the setting is not informed.
+     */
+    public static final int DEFAULT_INCREMENT_SIZE = 50;
+
+    @Override
+    public void configure(final Type type, final Properties params, final ServiceRegistry serviceRegistry) throws MappingException {
+        final int incrementSize = ConfigurationHelper.getInt(INCREMENT_SIZE_SETTING,
+                                                             serviceRegistry.getService(ConfigurationService.class).getSettings(),
+                                                             DEFAULT_INCREMENT_SIZE);
+        if (incrementSize < 1) {
+            throw new MappingException("Setting " + INCREMENT_SIZE_SETTING + " must be greater than zero: " + incrementSize);
+        }
+        params.setProperty(INCREMENT_PARAM, String.valueOf(incrementSize));
+        params.setProperty(OPT_PARAM, StandardOptimizerDescriptor.HILO.getExternalName());
+        super.configure(type, params, serviceRegistry);
+    }
+}
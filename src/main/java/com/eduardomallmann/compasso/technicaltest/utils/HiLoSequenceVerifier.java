@@ -0,0 +1,76 @@
+package com.eduardomallmann.compasso.technicaltest.utils;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Verifies at startup that the identifiers the {@link HiLoSequenceGenerator} is about to give don't overlap the ones already in the database.
+ * <p>The block of identifiers of a sequence value depends on the {@value HiLoSequenceGenerator#INCREMENT_SIZE_SETTING} setting, so lowering it on an
+ * existent database makes the next blocks start below identifiers already given. The application then fails to start instead of failing the inserts
+ * with primary key violations. The verification fetches a sequence value only when the table has registers, giving up the block of that value.</p>
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+@Component
+public class HiLoSequenceVerifier {
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+    private final JdbcTemplate jdbcTemplate;
+    private final Dialect dialect;
+    private final int incrementSize;
+
+    /**
+     * Main constructor with components injection.
+     *
+     * @param entityManagerFactory {@link EntityManagerFactory} component
+     * @param jdbcTemplate         {@link JdbcTemplate} component
+     */
+    public HiLoSequenceVerifier(final EntityManagerFactory entityManagerFactory, final JdbcTemplate jdbcTemplate) {
+        final SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = sessionFactory.getJdbcServices().getDialect();
+        this.incrementSize = ConfigurationHelper.getInt(HiLoSequenceGenerator.INCREMENT_SIZE_SETTING, sessionFactory.getProperties(),
+                                                        HiLoSequenceGenerator.DEFAULT_INCREMENT_SIZE);
+    }
+
+    /**
+     * Verifies the cities and clients sequences.
+     *
+     * @throws IllegalStateException in case of the next identifiers overlap the ones already given.
+     */
+    @PostConstruct
+    public void verify() {
+        this.verify("cities_id_seq", "cities");
+        this.verify("clients_id_seq", "clients");
+    }
+
+    /**
+     * Verifies that the first identifier of the next sequence value block is greater than the greatest identifier of the table.
+     *
+     * @param sequence sequence name
+     * @param table    name of the table which identifiers are given by the sequence
+     *
+     * @throws IllegalStateException in case of the next identifiers overlap the ones already given.
+     */
+    void verify(final String sequence, final String table) {
+        final Long maxId = this.jdbcTemplate.queryForObject("select max(id) from " + table, Long.class);
+        if (maxId == null) return;
+        final Long hi = this.jdbcTemplate.queryForObject(this.dialect.getSequenceNextValString(sequence), Long.class);
+        final long firstId = (hi - 1) * this.incrementSize + 1;
+        if (firstId <= maxId) {
+            throw new IllegalStateException("Setting " + HiLoSequenceGenerator.INCREMENT_SIZE_SETTING + " was lowered to " + this.incrementSize
+                                                    + ": the next " + table + " identifiers would start at " + firstId + ", but " + maxId
+                                                    + " was already given. Restore the previous value, which must never decrease.");
+        }
+        log.debug("Sequence {} verified with next block from {} above the greatest {} identifier {}", sequence, firstId, table, maxId);
+    }
+}
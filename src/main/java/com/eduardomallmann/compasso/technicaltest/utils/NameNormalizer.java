@@ -0,0 +1,142 @@
+package com.eduardomallmann.compasso.technicaltest.utils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Class responsible to normalize the names kept lower cased in the database into their display form.
+ *
+ * @author eduardomallmann
+ * @since 0.0.1
+ */
+public final class NameNormalizer {
+
+    private static final char LATIN_1_LAST = '\u00FF';
+    private static final char SHARP_S = '\u00DF';
+    private static final List<String> SPECIAL_CASING_LANGUAGES = Arrays.asList("tr", "az", "lt");
+
+    /**
+     * Private constructor, this class must not be instantiated.
+     */
+    private NameNormalizer() {
+    }
+
+    /**
+     * Normalizes a string parameter informed with Camelcase and ignoring prepositions.
+     * <p>The words are separated by single blank characters, and the prepositions {@code da}, {@code de}, {@code do}, {@code das}, {@code des} and
+     * {@code dos} are kept lower cased unless they are the first or the last word. The field is written in a single pass when its characters are case
+     * mapped one by one, which holds for the Latin-1 characters out of the Turkish, Azeri and Lithuanian locales, and word by word otherwise.</p>
+     *
+     * @param field a String parameter
+     *
+     * @return a String.
+     */
+    public static String normalize(final String field) {
+        int end = field.length();
+        while (end > 0 && isBlank(field.charAt(end - 1))) {
+            end--;
+        }
+        if (end == 0 && !field.isEmpty()) return "";
+        if (SPECIAL_CASING_LANGUAGES.contains(Locale.getDefault().getLanguage())) return normalizeWords(field);
+        final StringBuilder normalizeField = new StringBuilder(end + 2);
+        int start = 0;
+        while (start <= end) {
+            int stop = start;
+            while (stop < end && !isBlank(field.charAt(stop))) {
+                if (field.charAt(stop) > LATIN_1_LAST) return normalizeWords(field);
+                stop++;
+            }
+            if (stop == start) throw new StringIndexOutOfBoundsException("Empty word at index " + start);
+            if (start > 0) {
+                normalizeField.append(' ');
+            }
+            final int length = stop - start;
+            final boolean preposition = start > 0 && stop != end && length > 1 && length <= 3
+                                                && Character.toLowerCase(field.charAt(start)) == 'd'
+                                                && isPrepositionVowel(field.charAt(start + 1))
+                                                && (length == 2 || field.charAt(stop - 1) == 's');
+            if (preposition) {
+                normalizeField.append(Character.toLowerCase(field.charAt(start)));
+            } else if (field.charAt(start) == SHARP_S) {
+                normalizeField.append("SS");
+            } else {
+                normalizeField.append(Character.toUpperCase(field.charAt(start)));
+            }
+            for (int i = start + 1; i < stop; i++) {
+                normalizeField.append(Character.toLowerCase(field.charAt(i)));
+            }
+            start = stop + 1;
+        }
+        return normalizeField.toString();
+    }
+
+    /**
+     * Normalizes a name into its display form, as {@link #normalize(String)} does once the leading blanks are removed and the blanks between the words
+     * are collapsed into a single one, so any name accepted by the validations has a display form.
+     *
+     * @param field a String parameter, may be null
+     *
+     * @return a String, null when the field is null.
+     */
+    public static String normalizeDisplay(final String field) {
+        if (field == null) return null;
+        boolean collapsed = true;
+        for (int i = 0; i < field.length() && collapsed; i++) {
+            collapsed = !isBlank(field.charAt(i)) || (i > 0 && field.charAt(i) == ' ' && !isBlank(field.charAt(i - 1)));
+        }
+        if (collapsed) return field.isEmpty() ? field : normalize(field);
+        final StringBuilder words = new StringBuilder(field.length());
+        for (int i = 0; i < field.length(); i++) {
+            final char current = field.charAt(i);
+            if (!isBlank(current)) {
+                words.append(current);
+            } else if (words.length() > 0 && words.charAt(words.length() - 1) != ' ') {
+                words.append(' ');
+            }
+        }
+        return words.length() == 0 ? "" : normalize(words.toString());
+    }
+
+    /**
+     * Normalizes a string parameter word by word, with the locale sensitive case mapping of {@link String}.
+     *
+     * @param field a String parameter
+     *
+     * @return a String.
+     */
+    private static String normalizeWords(final String field) {
+        final String[] words = field.split("\\s");
+        StringBuilder normalizeField = new StringBuilder();
+        for (int i = 0; i < words.length; i++) {
+            String word = words[i];
+            if (i == 0) {
+                normalizeField
+                        .append(word.substring(0, 1).toUpperCase())
+                        .append(word.substring(1).toLowerCase());
+            } else {
+                if ((word.length() <= 3 && word.length() > 1)
+                            && (word.toLowerCase().startsWith("d") && isPrepositionVowel(word.charAt(1)) && (word.length() == 2 || word.endsWith("s")))
+                            && i != words.length - 1) {
+                    normalizeField
+                            .append(" ")
+                            .append(word.toLowerCase());
+                } else {
+                    normalizeField
+                            .append(" ")
+                            .append(word.substring(0, 1).toUpperCase())
+                            .append(word.substring(1).toLowerCase());
+                }
+            }
+        }
+        return normalizeField.toString();
+    }
+
+    private static boolean isBlank(final char value) {
+        return value == ' ' || value == '\t' || value == '\n' || value == '\u000B' || value == '\f' || value == '\r';
+    }
+
+    private static boolean isPrepositionVowel(final char value) {
+        return value == 'a' || value == 'e' || value == 'o';
+    }
+}
@@ -1,5 +1,6 @@
 package com.eduardomallmann.compasso.technicaltest.utils;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.data.domain.Page;
 
 import java.util.ArrayList;
@@ -23,6 +24,8 @@ public class Response<T> {
     private boolean first;
     private boolean last;
     private boolean empty;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String next;
 
     /**
      * Private constructor to be used internally.
@@ -103,6 +106,31 @@ public class Response<T> {
                        .build();
     }
 
+    /**
+     * Creates a new instance of {@link Response} with the slice informed as content. This method should be used when the content is a page of a keyset
+     * listing, where the total of elements is not counted and the next page is reached through the continuation token informed.
+     *
+     * @param list  the slice with the content to be sent in the responseBuilder
+     * @param limit the maximum number of elements of the slice
+     * @param first whether the slice is the first one of the listing
+     * @param next  the continuation token of the next slice, {@code null} when the slice is the last one
+     * @param <T>   The class of the object that will be sent in the content.
+     *
+     * @return A new instance of {@link Response}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Response<T> of(final List<T> list, final int limit, final boolean first, final String next) {
+        return builder()
+                       .content(list == null ? Collections.emptyList() : list)
+                       .numberOfElements(list == null ? 0 : list.size())
+                       .pageSize(limit)
+                       .first(first)
+                       .last(next == null)
+                       .empty(list == null || list.isEmpty())
+                       .next(next)
+                       .build();
+    }
+
     public static class ResponseBuilder<T> {
 
         public Builder<Response<T>> builder;
@@ -166,6 +194,11 @@ public class Response<T> {
             return this;
         }
 
+        public ResponseBuilder<T> next(final String next) {
+            this.builder.with(r -> r.next = next);
+            return this;
+        }
+
         public Response<T> build() {
             return this.builder.build();
         }
@@ -206,4 +239,8 @@ public class Response<T> {
     public boolean isEmpty() {
         return empty;
     }
+
+    public String getNext() {
+        return next;
+    }
 }
@@ -0,0 +1,97 @@
+package com.eduardomallmann.compasso.technicaltest.configs;
+
+import com.eduardomallmann.compasso.technicaltest.utils.MessageUtils;
+import com.eduardomallmann.compasso.technicaltest.utils.Response;
+import com.eduardomallmann.compasso.technicaltest.utils.ResponseContent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+                properties = {"technicaltest.executors.lookup.core-size=1",
+                              "technicaltest.executors.lookup.max-size=1",
+                              "technicaltest.executors.lookup.queue-capacity=1"})
+@ActiveProfiles("test")
+class AsyncConfigIT {
+
+    private static final String CLIENT_ENDPOINT = "/clients";
+
+    @Autowired
+    @Qualifier(AsyncConfig.LOOKUP_EXECUTOR)
+    private BoundedTaskExecutor lookupExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate.getRestTemplate().setRequestFactory(new HttpComponentsClientHttpRequestFactory());
+        this.release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.release.countDown();
+    }
+
+    @Test
+    void findClientById_WithLookupExecutorSaturated_ShouldReturnServiceUnavailable() throws InterruptedException {
+        //given
+        final CountDownLatch started = new CountDownLatch(1);
+        this.lookupExecutor.execute(() -> {
+            started.countDown();
+            this.await();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        this.lookupExecutor.execute(this::await);
+        final double rejected = this.meterRegistry.get("executor.rejected").tag("name", "lookup").counter().count();
+        String errorMessage = MessageUtils.getMessage("executor.rejected.error");
+        //when
+        ResponseEntity<Response<ResponseContent>> result = restTemplate.exchange(
+                RequestEntity.get(URI.create(CLIENT_ENDPOINT + "/1"))
+                        .accept(MediaType.APPLICATION_JSON)
+                        .build(),
+                new ParameterizedTypeReference<Response<ResponseContent>>() {
+                });
+        //then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, result.getStatusCode());
+        assertEquals("1", result.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertTrue(Objects.requireNonNull(Objects.requireNonNull(result.getBody()).getContent()).stream()
+                           .allMatch(resp -> errorMessage.equals(resp.getErrorMessage().getMessage())));
+        assertEquals(rejected + 1, this.meterRegistry.get("executor.rejected").tag("name", "lookup").counter().count());
+    }
+
+    private void await() {
+        try {
+            this.release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
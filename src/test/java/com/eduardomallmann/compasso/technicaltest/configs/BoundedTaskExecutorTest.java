@@ -0,0 +1,74 @@
+package com.eduardomallmann.compasso.technicaltest.configs;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ActiveProfiles("test")
+class BoundedTaskExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedTaskExecutor executor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.executor = new BoundedTaskExecutor("test", 1, 1, 1, this.meterRegistry);
+        this.executor.initialize();
+        this.release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.release.countDown();
+        this.executor.shutdown();
+    }
+
+    @Test
+    void execute_WhenSaturated_ShouldRejectAndCount() throws InterruptedException {
+        //given
+        final CountDownLatch started = new CountDownLatch(1);
+        this.executor.execute(() -> {
+            started.countDown();
+            this.await();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        this.executor.execute(this::await);
+        //when
+        assertThrows(TaskRejectedException.class, () -> this.executor.execute(this::await));
+        //then
+        assertEquals(1.0, this.meterRegistry.get("executor.rejected").tag("name", "test").counter().count());
+        assertEquals(1.0, this.meterRegistry.get("executor.active").tag("name", "test").gauge().value());
+        assertEquals(1.0, this.meterRegistry.get("executor.queued").tag("name", "test").gauge().value());
+    }
+
+    @Test
+    void initialize_ShouldBindExecutorMetrics() {
+        //given
+        //when
+        final int poolSize = this.executor.getCorePoolSize();
+        //then
+        assertEquals(1, poolSize);
+        assertEquals(1.0, this.meterRegistry.get("executor.queue.remaining").tag("name", "test").gauge().value());
+        assertEquals(0.0, this.meterRegistry.get("executor.rejected").tag("name", "test").counter().count());
+    }
+
+    private void await() {
+        try {
+            this.release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
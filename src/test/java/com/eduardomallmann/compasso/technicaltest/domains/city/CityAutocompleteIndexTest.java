@@ -0,0 +1,75 @@
+package com.eduardomallmann.compasso.technicaltest.domains.city;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ActiveProfiles("test")
+class CityAutocompleteIndexTest {
+
+    private CityAutocompleteIndex cityAutocompleteIndex;
+
+    @BeforeEach
+    void setUp() {
+        this.cityAutocompleteIndex = new CityAutocompleteIndex();
+        this.cityAutocompleteIndex.load(Arrays.asList(
+                this.city(1L, "são paulo", "são paulo"),
+                this.city(2L, "são josé", "santa catarina"),
+                this.city(3L, "são josé", "rio grande do sul"),
+                this.city(4L, "são josé do rio preto", "são paulo"),
+                this.city(5L, "florianópolis", "santa catarina")));
+    }
+
+    @Test
+    void findAllByNameStartingWith_ShouldReturnCitiesInNameAndStateOrder() {
+        //when
+        List<Long> result = this.ids(this.cityAutocompleteIndex.findAllByNameStartingWith("são", 10));
+        //then
+        assertEquals(Arrays.asList(3L, 2L, 4L, 1L), result);
+    }
+
+    @Test
+    void findAllByNameStartingWith_ShouldRespectLimit() {
+        //when
+        List<Long> result = this.ids(this.cityAutocompleteIndex.findAllByNameStartingWith("são josé", 2));
+        //then
+        assertEquals(Arrays.asList(3L, 2L), result);
+    }
+
+    @Test
+    void findAllByNameStartingWith_AfterCityEvents_ShouldReturnUpdatedCities() {
+        //given
+        this.cityAutocompleteIndex.onCityEvent(new CityEvent(this.city(6L, "são bento", "santa catarina"), CityEvent.Type.SAVED));
+        this.cityAutocompleteIndex.onCityEvent(new CityEvent(this.city(1L, "sorocaba", "são paulo"), CityEvent.Type.SAVED));
+        this.cityAutocompleteIndex.onCityEvent(new CityEvent(this.city(4L, "são josé do rio preto", "são paulo"), CityEvent.Type.REMOVED));
+        //when
+        List<Long> result = this.ids(this.cityAutocompleteIndex.findAllByNameStartingWith("s", 10));
+        //then
+        assertEquals(Arrays.asList(1L, 6L, 3L, 2L), result);
+    }
+
+    @Test
+    void findAllByNameStartingWith_WithUnknownPrefix_ShouldReturnEmpty() {
+        //when
+        List<Long> result = this.ids(this.cityAutocompleteIndex.findAllByNameStartingWith("zz", 10));
+        //then
+        assertEquals(Collections.emptyList(), result);
+    }
+
+    private List<Long> ids(final List<City> cities) {
+        return cities.stream().map(City::getId).collect(Collectors.toList());
+    }
+
+    private City city(final Long id, final String name, final String state) {
+        City city = new City(name, state);
+        city.setId(id);
+        return city;
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.http.RequestEntity;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +21,7 @@ import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -36,6 +38,12 @@ class CityControllerIT {
     @Autowired
     private CityRepository cityRepository;
 
+    @Autowired
+    private CityService cityService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Autowired
     private TestRestTemplate restTemplate;
 
@@ -66,6 +74,19 @@ class CityControllerIT {
                                                      && cityRequest.getState().equalsIgnoreCase(resp.getState())));
     }
 
+    @Test
+    void loadCities_ShouldBackfillDisplayForm() {
+        //given
+        City city = this.cityRepository.save(new City("são josé dos pinhais", "paraná"));
+        this.jdbcTemplate.update("update cities set display_name = null, display_state = null where id = ?", city.getId());
+        //when
+        this.cityService.loadCities();
+        //then
+        City result = this.cityRepository.findById(city.getId()).orElseThrow(IllegalStateException::new);
+        assertEquals("São José dos Pinhais", result.getDisplayName());
+        assertEquals("Paraná", result.getDisplayState());
+    }
+
     @Test
     void createNewCity_ShouldReturnValidationError() {
         //given
@@ -147,6 +168,117 @@ class CityControllerIT {
         assertTrue(Objects.requireNonNull(result.getBody()).getContent().stream().allMatch(city -> state.equalsIgnoreCase(city.getState())));
     }
 
+    @Test
+    void getCitiesByState_AfterCityCreation_ShouldReturnNewCity() throws UnsupportedEncodingException {
+        //given
+        final String state = "santa catarina";
+        this.populateCities();
+        final URI uri = URI.create(CITY_ENDPOINT.concat("/state?value=").concat(URLEncoder.encode(state, "UTF-8")));
+        restTemplate.exchange(RequestEntity.get(uri).accept(MediaType.APPLICATION_JSON).build(), new ParameterizedTypeReference<Response<CityDTO>>() {
+        });
+        restTemplate.exchange(RequestEntity.post(URI.create(CITY_ENDPOINT))
+                                      .contentType(MediaType.APPLICATION_JSON)
+                                      .body(new CityDTO("Joinville", "Santa Catarina")),
+                              new ParameterizedTypeReference<Response<CityDTO>>() {
+                              });
+        //when
+        ResponseEntity<Response<CityDTO>> result = restTemplate.exchange(RequestEntity.get(uri).accept(MediaType.APPLICATION_JSON).build(),
+                                                                         new ParameterizedTypeReference<Response<CityDTO>>() {
+                                                                         });
+        //then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(3, Objects.requireNonNull(result.getBody()).getContent().size());
+        assertTrue(Objects.requireNonNull(result.getBody()).getContent().contains(new CityDTO("Joinville", "Santa Catarina")));
+    }
+
+    @Test
+    void autocompleteCities_ShouldReturnCitiesFoundInAlphabeticalOrder() throws UnsupportedEncodingException {
+        //given
+        final String prefix = "são";
+        this.populateCities();
+        //when
+        ResponseEntity<Response<CityDTO>> result = restTemplate.exchange(
+                RequestEntity.get(URI.create(CITY_ENDPOINT.concat("/autocomplete?limit=3&prefix=").concat(URLEncoder.encode(prefix, "UTF-8"))))
+                        .accept(MediaType.APPLICATION_JSON)
+                        .build(),
+                new ParameterizedTypeReference<Response<CityDTO>>() {
+                });
+        //then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(Arrays.asList(new CityDTO("São Bernardo", "São Paulo"),
+                                   new CityDTO("São José do Rio Preto", "São Paulo"),
+                                   new CityDTO("São Paulo", "Santa Catarina")),
+                     Objects.requireNonNull(result.getBody()).getContent());
+    }
+
+    @Test
+    void getCitiesByState_WithPage_ShouldReturnPageOfCitiesFound() throws UnsupportedEncodingException {
+        //given
+        final String state = "são paulo";
+        this.populateCities();
+        //when
+        ResponseEntity<Response<CityDTO>> result = restTemplate.exchange(
+                RequestEntity.get(URI.create(CITY_ENDPOINT.concat("/state?page=1&size=2&sort=name&value=").concat(URLEncoder.encode(state, "UTF-8"))))
+                        .accept(MediaType.APPLICATION_JSON)
+                        .build(),
+                new ParameterizedTypeReference<Response<CityDTO>>() {
+                });
+        //then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(Collections.singletonList(new CityDTO("São Paulo", "São Paulo")), Objects.requireNonNull(result.getBody()).getContent());
+        assertEquals(1, result.getBody().getPageNumber());
+        assertEquals(3, result.getBody().getTotalElements());
+        assertEquals(2, result.getBody().getTotalPages());
+        assertTrue(result.getBody().isLast());
+    }
+
+    @Test
+    void getCitiesByName_WithPage_ShouldReturnPageOfCitiesFound() throws UnsupportedEncodingException {
+        //given
+        final String name = "são";
+        this.populateCities();
+        //when
+        ResponseEntity<Response<CityDTO>> result = restTemplate.exchange(
+                RequestEntity.get(URI.create(CITY_ENDPOINT.concat("/name?page=0&size=3&sort=name,desc&value=").concat(URLEncoder.encode(name, "UTF-8"))))
+                        .accept(MediaType.APPLICATION_JSON)
+                        .build(),
+                new ParameterizedTypeReference<Response<CityDTO>>() {
+                });
+        //then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(3, Objects.requireNonNull(result.getBody()).getNumberOfElements());
+        assertEquals(4, result.getBody().getTotalElements());
+        assertEquals("São Paulo", result.getBody().getContent().get(0).getCity());
+        assertTrue(result.getBody().isFirst());
+    }
+
+    @Test
+    void importCities_ShouldCreateOnlyNewCities() {
+        //given
+        this.populateCities();
+        String body = "code;state;city\n"
+                              + "4209102;Santa Catarina;Joinville\n"
+                              + "4205407;Santa Catarina;Florianópolis\n"
+                              + "4209102;santa catarina;JOINVILLE\n"
+                              + "3550308;;São Paulo\n";
+        //when
+        ResponseEntity<Response<CityImportResponse>> result = restTemplate.exchange(
+                RequestEntity.post(URI.create(CITY_ENDPOINT.concat("/import")))
+                        .contentType(MediaType.parseMediaType("text/csv"))
+                        .body(body),
+                new ParameterizedTypeReference<Response<CityImportResponse>>() {
+                });
+        //then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        CityImportResponse response = Objects.requireNonNull(result.getBody()).getContent().get(0);
+        assertEquals(4, response.getRead());
+        assertEquals(1, response.getCreated());
+        assertEquals(2, response.getExistent());
+        assertEquals(1, response.getRejected());
+        assertTrue(this.cityRepository.findByNameAndState("joinville", "santa catarina").isPresent());
+        assertEquals(6, this.cityRepository.count());
+    }
+
     private List<CityDTO> populateCities() {
         CityDTO saoPaulo = new CityDTO("São Paulo", "São Paulo");
         CityDTO saoJoseDoRioPreto = new CityDTO("São José do Rio Preto", "São Paulo");
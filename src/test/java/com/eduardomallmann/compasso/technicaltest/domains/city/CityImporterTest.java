@@ -0,0 +1,152 @@
+package com.eduardomallmann.compasso.technicaltest.domains.city;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+class CityImporterTest {
+
+    private CityRepository cityRepository;
+    private CityRegistry cityRegistry;
+    private CityResolver cityResolver;
+    private CityImporter cityImporter;
+
+    @BeforeEach
+    void setUp() {
+        this.cityRepository = mock(CityRepository.class);
+        this.cityRegistry = mock(CityRegistry.class);
+        this.cityResolver = mock(CityResolver.class);
+        when(this.cityRegistry.findByNameAndState(anyString(), anyString())).thenReturn(Optional.empty());
+        this.cityImporter = new CityImporter(this.cityRepository, this.cityRegistry, this.cityResolver, "");
+    }
+
+    @Test
+    void split_ShouldReturnColumns() {
+        //then
+        assertEquals(Arrays.asList("4209102", "Joinville", "SC"), CityImporter.split("4209102,Joinville,SC", ','));
+        assertEquals(Arrays.asList("Joinville", "Santa Catarina", ""), CityImporter.split("Joinville;Santa Catarina;", ';'));
+    }
+
+    @Test
+    void split_WithQuotedColumns_ShouldKeepDelimitersAndQuotes() {
+        //then
+        assertEquals(Arrays.asList("Embu, das Artes", "São \"SP\" Paulo"), CityImporter.split("\"Embu, das Artes\",\"São \"\"SP\"\" Paulo\"", ','));
+    }
+
+    @Test
+    void importCities_WithHeader_ShouldReadColumnsByName() throws IOException {
+        //given
+        String csv = "\uFEFFcode;uf;cidade\n4209102;Santa Catarina;Joinville\n4202404;Santa Catarina;Blumenau\n";
+        //when
+        CityImportResponse response = this.cityImporter.importCities(reader(csv));
+        //then
+        assertEquals(2, response.getRead());
+        assertEquals(2, response.getCreated());
+        assertEquals(Arrays.asList("joinville/santa catarina", "blumenau/santa catarina"), this.savedCities());
+    }
+
+    @Test
+    void importCities_WithoutHeader_ShouldReadFirstTwoColumns() throws IOException {
+        //given
+        String csv = "Joinville,Santa Catarina\nCuritiba,Paraná\n";
+        //when
+        CityImportResponse response = this.cityImporter.importCities(reader(csv));
+        //then
+        assertEquals(2, response.getCreated());
+        assertEquals(0, response.getRejected());
+        assertEquals(Arrays.asList("joinville/santa catarina", "curitiba/paraná"), this.savedCities());
+    }
+
+    @Test
+    void importCities_WithUnknownHeader_ShouldRejectIt() throws IOException {
+        //given
+        String csv = "city,province\nJoinville,Santa Catarina\n";
+        //when
+        CityImportResponse response = this.cityImporter.importCities(reader(csv));
+        //then
+        assertEquals(2, response.getRead());
+        assertEquals(1, response.getCreated());
+        assertEquals(1, response.getRejected());
+        assertTrue(response.getErrors().get(0).startsWith("Line 1: unknown header"));
+        assertEquals(Collections.singletonList("joinville/santa catarina"), this.savedCities());
+    }
+
+    @Test
+    void importCities_WithDuplicatedExistentAndBlankRows_ShouldCountThem() throws IOException {
+        //given
+        String csv = "city,state\nJoinville,Santa Catarina\nJOINVILLE,santa catarina\nFlorianópolis,Santa Catarina\n\n,Santa Catarina\nBlumenau\n";
+        when(this.cityRegistry.findByNameAndState("florianópolis", "santa catarina"))
+                .thenReturn(Optional.of(new City("florianópolis", "santa catarina")));
+        //when
+        CityImportResponse response = this.cityImporter.importCities(reader(csv));
+        //then
+        assertEquals(5, response.getRead());
+        assertEquals(1, response.getCreated());
+        assertEquals(2, response.getExistent());
+        assertEquals(2, response.getRejected());
+        assertEquals(Arrays.asList("Line 6: city and state must not be blank", "Line 7: city and state must not be blank"), response.getErrors());
+        assertEquals(Collections.singletonList("joinville/santa catarina"), this.savedCities());
+    }
+
+    @Test
+    void importCities_WithBatchConflict_ShouldResolveEachCity() throws IOException {
+        //given
+        String csv = "city,state\nJoinville,Santa Catarina\nBlumenau,Santa Catarina\n";
+        when(this.cityRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("uc_cities_name_state"));
+        when(this.cityRepository.findByNameAndState("joinville", "santa catarina"))
+                .thenReturn(Optional.of(new City("joinville", "santa catarina")));
+        when(this.cityRepository.findByNameAndState("blumenau", "santa catarina")).thenReturn(Optional.empty());
+        //when
+        CityImportResponse response = this.cityImporter.importCities(reader(csv));
+        //then
+        assertEquals(1, response.getCreated());
+        assertEquals(1, response.getExistent());
+        ArgumentCaptor<City> resolved = ArgumentCaptor.forClass(City.class);
+        verify(this.cityResolver, times(1)).resolve(resolved.capture());
+        assertEquals("blumenau", resolved.getValue().getName());
+    }
+
+    @Test
+    void importCities_WithEmptyStream_ShouldImportNothing() throws IOException {
+        //when
+        CityImportResponse response = this.cityImporter.importCities(reader(""));
+        //then
+        assertEquals(0, response.getRead());
+        verify(this.cityRepository, never()).saveAll(anyList());
+        verify(this.cityResolver, never()).resolve(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> savedCities() {
+        ArgumentCaptor<List<City>> saved = ArgumentCaptor.forClass(List.class);
+        verify(this.cityRepository, times(1)).saveAll(saved.capture());
+        return saved.getValue().stream().map(city -> city.getName() + "/" + city.getState()).collect(Collectors.toList());
+    }
+
+    private static BufferedReader reader(final String csv) {
+        return new BufferedReader(new StringReader(csv));
+    }
+}
@@ -0,0 +1,80 @@
+package com.eduardomallmann.compasso.technicaltest.domains.city;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ActiveProfiles("test")
+class CityNameIndexTest {
+
+    private CityNameIndex cityNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        this.cityNameIndex = new CityNameIndex();
+        this.cityNameIndex.load(Arrays.asList(
+                this.city(3L, "são paulo", "são paulo"),
+                this.city(1L, "são josé do rio preto", "são paulo"),
+                this.city(2L, "florianópolis", "santa catarina"),
+                this.city(4L, "são bernardo", "são paulo")));
+    }
+
+    @Test
+    void findAllByNameContaining_ShouldReturnCitiesOrderedById() {
+        //when
+        List<Long> result = this.cityNameIndex.findAllByNameContaining("são").stream().map(City::getId).collect(Collectors.toList());
+        //then
+        assertEquals(Arrays.asList(1L, 3L, 4L), result);
+    }
+
+    @Test
+    void findAllByNameContaining_WithShortName_ShouldReturnCitiesFound() {
+        //when
+        List<Long> result = this.cityNameIndex.findAllByNameContaining("o").stream().map(City::getId).collect(Collectors.toList());
+        //then
+        assertEquals(Arrays.asList(1L, 2L, 3L, 4L), result);
+    }
+
+    @Test
+    void findAllByNameContaining_ShouldNotMatchSplitGrams() {
+        //when
+        List<City> result = this.cityNameIndex.findAllByNameContaining("paulopolis");
+        //then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void onCityEvent_ShouldKeepIndexInSync() {
+        //given
+        City city = this.city(5L, "são luís", "maranhão");
+        //when
+        this.cityNameIndex.onCityEvent(new CityEvent(city, CityEvent.Type.SAVED));
+        this.cityNameIndex.onCityEvent(new CityEvent(this.city(3L, "são paulo", "são paulo"), CityEvent.Type.REMOVED));
+        List<Long> result = this.cityNameIndex.findAllByNameContaining("são").stream().map(City::getId).collect(Collectors.toList());
+        //then
+        assertEquals(Arrays.asList(1L, 4L, 5L), result);
+    }
+
+    @Test
+    void supports_ShouldRejectLikeWildcards() {
+        //then
+        assertTrue(this.cityNameIndex.supports("são"));
+        assertFalse(this.cityNameIndex.supports("s_o"));
+        assertFalse(this.cityNameIndex.supports("são%"));
+        assertFalse(new CityNameIndex().supports("são"));
+    }
+
+    private City city(final Long id, final String name, final String state) {
+        City city = new City(name, state);
+        city.setId(id);
+        return city;
+    }
+}
@@ -0,0 +1,103 @@
+package com.eduardomallmann.compasso.technicaltest.domains.city;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+class CityResolverTest {
+
+    private CityRepository cityRepository;
+    private CityRegistry cityRegistry;
+    private CityResolver cityResolver;
+
+    @BeforeEach
+    void setUp() {
+        this.cityRepository = mock(CityRepository.class);
+        this.cityRegistry = new CityRegistry();
+        this.cityResolver = new CityResolver(this.cityRepository, this.cityRegistry);
+    }
+
+    @Test
+    void resolve_WithConcurrentCalls_ShouldInsertCityOnce() throws Exception {
+        //given
+        final int callers = 8;
+        final CountDownLatch inserting = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final City saved = new City("joinville", "santa catarina");
+        saved.setId(1L);
+        when(this.cityRepository.findByNameAndState("joinville", "santa catarina")).thenReturn(Optional.empty());
+        when(this.cityRepository.save(any(City.class))).thenAnswer(invocation -> {
+            inserting.countDown();
+            release.await();
+            return saved;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        //when
+        try {
+            Future<City> first = executor.submit(() -> this.cityResolver.resolve(new City("joinville", "santa catarina")));
+            inserting.await();
+            List<Callable<City>> others = IntStream.range(1, callers)
+                                                  .mapToObj(i -> (Callable<City>) () -> this.cityResolver.resolve(new City("joinville", "santa catarina")))
+                                                  .collect(Collectors.toList());
+            List<Future<City>> futures = others.stream().map(executor::submit).collect(Collectors.toList());
+            Thread.sleep(100);
+            release.countDown();
+            //then
+            assertSame(saved, first.get());
+            for (Future<City> future : futures) {
+                assertSame(saved, future.get());
+            }
+            verify(this.cityRepository, times(1)).save(any(City.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void resolve_WithKnownCity_ShouldNotReachDatabase() {
+        //given
+        final City known = new City("joinville", "santa catarina");
+        known.setId(3L);
+        this.cityRegistry.load(Collections.singletonList(known));
+        //when
+        City result = this.cityResolver.resolve(new City("joinville", "santa catarina"));
+        //then
+        assertSame(known, result);
+        verifyNoInteractions(this.cityRepository);
+    }
+
+    @Test
+    void resolve_WithConstraintViolation_ShouldReadCityAgain() {
+        //given
+        final City existent = new City("joinville", "santa catarina");
+        existent.setId(2L);
+        when(this.cityRepository.findByNameAndState("joinville", "santa catarina")).thenReturn(Optional.empty(), Optional.of(existent));
+        when(this.cityRepository.save(any(City.class))).thenThrow(new DataIntegrityViolationException("uc_cities_name_state"));
+        //when
+        City result = this.cityResolver.resolve(new City("joinville", "santa catarina"));
+        //then
+        assertEquals(existent, result);
+    }
+}
@@ -0,0 +1,134 @@
+package com.eduardomallmann.compasso.technicaltest.domains.client;
+
+import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+class ClientCacheTest {
+
+    private ClientRepository clientRepository;
+    private ClientIdFilter clientIdFilter;
+    private ClientCache clientCache;
+
+    @BeforeEach
+    void setUp() {
+        this.clientRepository = mock(ClientRepository.class);
+        this.clientIdFilter = new ClientIdFilter(1024);
+        this.clientCache = new ClientCache(this.clientRepository, this.clientIdFilter, new SimpleMeterRegistry(), 100, Duration.ofMinutes(10),
+                                           100, Duration.ofSeconds(30));
+    }
+
+    @Test
+    void findById_ShouldReachDatabaseOnce() {
+        //given
+        final Client client = this.client(1L, "john doe");
+        when(this.clientRepository.findById(1L)).thenReturn(Optional.of(client));
+        //when
+        this.clientCache.findById(1L);
+        Optional<ClientResponse> result = this.clientCache.findById(1L);
+        //then
+        assertEquals(1L, result.map(ClientResponse::getId).orElse(null));
+        verify(this.clientRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void findById_AfterClientEvent_ShouldReloadClient() {
+        //given
+        when(this.clientRepository.findById(1L)).thenReturn(Optional.of(this.client(1L, "john doe")), Optional.of(this.client(1L, "jing dong")));
+        this.clientCache.findById(1L);
+        //when
+        this.clientCache.onClientEvent(new ClientEvent(this.client(1L, "jing dong"), ClientEvent.Type.SAVED));
+        Optional<ClientResponse> result = this.clientCache.findById(1L);
+        //then
+        assertEquals("Jing Dong", result.map(ClientResponse::getName).orElse(null));
+        verify(this.clientRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void findById_WithIdNotFound_ShouldKeepItInNegativeCache() {
+        //given
+        when(this.clientRepository.findById(2L)).thenReturn(Optional.empty());
+        //when
+        this.clientCache.findById(2L);
+        Optional<ClientResponse> result = this.clientCache.findById(2L);
+        //then
+        assertFalse(result.isPresent());
+        verify(this.clientRepository, times(1)).findById(2L);
+    }
+
+    @Test
+    void findById_AfterClientCreation_ShouldReachDatabaseAgain() {
+        //given
+        when(this.clientRepository.findById(2L)).thenReturn(Optional.empty(), Optional.of(this.client(2L, "john doe")));
+        this.clientCache.findById(2L);
+        //when
+        this.clientCache.onClientEvent(new ClientEvent(this.client(2L, "john doe"), ClientEvent.Type.SAVED));
+        Optional<ClientResponse> result = this.clientCache.findById(2L);
+        //then
+        assertEquals(2L, result.map(ClientResponse::getId).orElse(null));
+    }
+
+    @Test
+    void findById_WithClientCreatedDuringLoad_ShouldReachDatabaseAgain() throws Exception {
+        //given
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(this.clientRepository.findById(2L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        }).thenReturn(Optional.of(this.client(2L, "john doe")));
+        final Thread reader = new Thread(() -> this.clientCache.findById(2L));
+        reader.start();
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        //when
+        final Thread writer = new Thread(() -> this.clientCache.onClientEvent(new ClientEvent(this.client(2L, "john doe"), ClientEvent.Type.SAVED)));
+        writer.start();
+        while (writer.getState() != Thread.State.BLOCKED && writer.isAlive()) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+        reader.join(5000);
+        writer.join(5000);
+        Optional<ClientResponse> result = this.clientCache.findById(2L);
+        //then
+        assertEquals(2L, result.map(ClientResponse::getId).orElse(null));
+        verify(this.clientRepository, times(2)).findById(2L);
+    }
+
+    @Test
+    void findById_WithIdOutOfFilter_ShouldNotReachDatabase() {
+        //given
+        this.clientIdFilter.add(1L);
+        this.clientIdFilter.markLoaded();
+        //when
+        Optional<ClientResponse> result = this.clientCache.findById(3L);
+        //then
+        assertFalse(result.isPresent());
+        verifyNoInteractions(this.clientRepository);
+    }
+
+    private Client client(final Long id, final String fullName) {
+        final Client client = new Client(fullName, "male", LocalDate.of(1980, 1, 2), null);
+        client.setId(id);
+        return client;
+    }
+}
@@ -1,11 +1,17 @@
 package com.eduardomallmann.compasso.technicaltest.domains.client;
 
+import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientBatchResponse;
+import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientBulkDeleteResponse;
+import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientBulkResponse;
+import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientBulkResult;
 import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientResponse;
 import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientNameRequest;
 import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientRequest;
 import com.eduardomallmann.compasso.technicaltest.utils.MessageUtils;
 import com.eduardomallmann.compasso.technicaltest.utils.Response;
 import com.eduardomallmann.compasso.technicaltest.utils.ResponseContent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,18 +24,24 @@ import org.springframework.http.MediaType;
 import org.springframework.http.RequestEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -41,6 +53,15 @@ class ClientControllerIT {
     @Autowired
     private ClientRepository clientRepository;
 
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ClientIdFilter clientIdFilter;
+
     @Autowired
     private TestRestTemplate restTemplate;
 
@@ -160,6 +181,90 @@ class ClientControllerIT {
                            .allMatch(resp -> errorMessage.equals(resp.getErrorMessage().getMessage())));
     }
 
+    @Test
+    void createClients_WithNdjson_ShouldReturnResultOfEachItem() {
+        //given
+        String body = "{\"name\":\"John Doe\",\"birthday\":\"1980-01-02\",\"city\":\"Joinville\",\"state\":\"Santa Catarina\"}\n"
+                              + "{\"name\":\"Jane\",\"birthday\":\"1980-01-02\"}\n"
+                              + "{\"name\":\"Mary Jane\",\"birthday\":\"not a date\"}\n"
+                              + "{\"name\":\"Coke Cola\",\"birthday\":\"1990-03-04\",\"city\":\"Joinville\",\"state\":\"Santa Catarina\"}\n";
+        String fullNameError = MessageUtils.getMessage("client.validation.full-name.error");
+        //when
+        ResponseEntity<Response<ClientBulkResponse>> result = restTemplate.exchange(
+                RequestEntity.post(URI.create(CLIENT_ENDPOINT.concat("/bulk")))
+                        .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                        .body(body),
+                new ParameterizedTypeReference<Response<ClientBulkResponse>>() {
+                });
+        //then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        ClientBulkResponse response = Objects.requireNonNull(result.getBody()).getContent().get(0);
+        assertEquals(4, response.getTotal());
+        assertEquals(2, response.getCreated());
+        assertEquals(Arrays.asList(0, 1, 2, 3), response.getResults().stream().map(ClientBulkResult::getIndex).sorted().collect(Collectors.toList()));
+        assertTrue(response.getResults().stream().filter(item -> item.getIndex() == 1).allMatch(item -> item.getErrors().contains(fullNameError)));
+        assertTrue(response.getResults().stream().filter(item -> item.getIndex() == 2).allMatch(item -> item.getId() == null));
+        List<Client> clients = this.clientRepository.findAll();
+        assertEquals(2, clients.size());
+        assertEquals(clients.get(0).getCity().getId(), clients.get(1).getCity().getId());
+    }
+
+    @Test
+    void createClients_WithJsonArray_ShouldCreateAllClients() {
+        //given
+        List<ClientRequest> requests = Arrays.asList(new ClientRequest("John Doe", "male", LocalDate.of(1920, 10, 11), null, null),
+                                                     new ClientRequest("Jane Doe", "female", LocalDate.of(1925, 5, 6), "Joinville", "Santa Catarina"));
+        //when
+        ResponseEntity<Response<ClientBulkResponse>> result = restTemplate.exchange(
+                RequestEntity.post(URI.create(CLIENT_ENDPOINT.concat("/bulk")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(requests),
+                new ParameterizedTypeReference<Response<ClientBulkResponse>>() {
+                });
+        //then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        ClientBulkResponse response = Objects.requireNonNull(result.getBody()).getContent().get(0);
+        assertEquals(2, response.getCreated());
+        assertEquals(0, response.getRejected());
+        assertEquals(2, this.clientRepository.count());
+    }
+
+    @Test
+    void createClients_WithExtraBlanksInName_ShouldCreateAllClients() {
+        //given
+        List<ClientRequest> requests = Arrays.asList(new ClientRequest("ana  maria", "female", LocalDate.of(1920, 10, 11), null, null),
+                                                     new ClientRequest(" joão da silva", "male", LocalDate.of(1925, 5, 6), null, null),
+                                                     new ClientRequest("John Doe", "male", LocalDate.of(1930, 1, 2), null, null));
+        //when
+        ResponseEntity<Response<ClientBulkResponse>> result = restTemplate.exchange(
+                RequestEntity.post(URI.create(CLIENT_ENDPOINT.concat("/bulk")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(requests),
+                new ParameterizedTypeReference<Response<ClientBulkResponse>>() {
+                });
+        //then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        ClientBulkResponse response = Objects.requireNonNull(result.getBody()).getContent().get(0);
+        assertEquals(3, response.getCreated());
+        assertEquals(0, response.getRejected());
+        List<String> displayNames = this.clientRepository.findAll().stream().map(Client::getDisplayName).sorted().collect(Collectors.toList());
+        assertEquals(Arrays.asList("Ana Maria", "John Doe", "João da Silva"), displayNames);
+    }
+
+    @Test
+    void loadClients_WithExtraBlanksInName_ShouldBackfillAllClients() {
+        //given
+        List<Client> clients = this.populateClients();
+        this.jdbcTemplate.update("update clients set full_name = 'ana  maria', display_name = null where id = ?", clients.get(0).getId());
+        this.jdbcTemplate.update("update clients set display_name = null, display_gender = null");
+        //when
+        this.clientService.loadClients();
+        //then
+        List<Client> result = this.clientRepository.findAll();
+        assertTrue(result.stream().allMatch(client -> client.getDisplayName() != null && client.getDisplayGender() != null));
+        assertTrue(result.stream().anyMatch(client -> "Ana Maria".equals(client.getDisplayName())));
+    }
+
     @Test
     void deleteClientById_ShouldRemoveObject() {
         //given
@@ -215,6 +320,24 @@ class ClientControllerIT {
                                                      && clientNameRequest.getName().equalsIgnoreCase(resp.getName())));
     }
 
+    @Test
+    void updateClientName_Twice_ShouldReturnEachNewName() {
+        //given
+        final URI uri = URI.create(CLIENT_ENDPOINT.concat("/").concat(String.valueOf(this.populateClients().get(0).getId())));
+        restTemplate.exchange(RequestEntity.patch(uri).contentType(MediaType.APPLICATION_JSON).body(new ClientNameRequest("Jing Dong")),
+                              new ParameterizedTypeReference<Response<ClientResponse>>() {
+                              });
+        //when
+        ResponseEntity<Response<ClientResponse>> result = restTemplate.exchange(
+                RequestEntity.patch(uri).contentType(MediaType.APPLICATION_JSON).body(new ClientNameRequest("Ma Huateng")),
+                new ParameterizedTypeReference<Response<ClientResponse>>() {
+                });
+        //then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertTrue(Objects.requireNonNull(result.getBody()).getContent().stream()
+                           .allMatch(resp -> "Ma Huateng".equalsIgnoreCase(resp.getName())));
+    }
+
     @Test
     void updateClientName_ShouldReturnBusinessError() {
         //given
@@ -234,6 +357,27 @@ class ClientControllerIT {
                            .allMatch(resp -> errorMessage.equals(resp.getErrorMessage().getMessage())));
     }
 
+    @Test
+    void getClientsByIds_ShouldReturnClientsInRequestOrderAndMissingIds() {
+        //given
+        List<Client> clients = this.populateClients();
+        final Long first = clients.get(0).getId();
+        final Long second = clients.get(1).getId();
+        final Long unknown = Long.MAX_VALUE;
+        //when
+        ResponseEntity<Response<ClientBatchResponse>> result = restTemplate.exchange(
+                RequestEntity.get(URI.create(CLIENT_ENDPOINT.concat("?ids=") + second + "," + unknown + "," + first + "," + second))
+                        .accept(MediaType.APPLICATION_JSON)
+                        .build(),
+                new ParameterizedTypeReference<Response<ClientBatchResponse>>() {
+                });
+        //then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        ClientBatchResponse batch = Objects.requireNonNull(result.getBody()).getContent().get(0);
+        assertEquals(Arrays.asList(second, first), batch.getClients().stream().map(ClientResponse::getId).collect(Collectors.toList()));
+        assertEquals(Collections.singletonList(unknown), batch.getMissing());
+    }
+
     @Test
     void getClientsByName() throws UnsupportedEncodingException {
         //given
@@ -253,6 +397,111 @@ class ClientControllerIT {
                            .allMatch(client -> client.getName().toLowerCase().contains(name.toLowerCase())));
     }
 
+    @Test
+    void getClientsByName_WithManyWords_ShouldReturnClientsInWordOrder() throws UnsupportedEncodingException {
+        //given
+        final String name = "Jane Doe";
+        List<Client> clients = this.populateClients();
+        List<Long> expected = Stream.concat(clients.stream().filter(client -> client.getFullName().contains("jane")),
+                                            clients.stream().filter(client -> client.getFullName().contains("doe")))
+                                      .map(Client::getId)
+                                      .distinct()
+                                      .collect(Collectors.toList());
+        //when
+        ResponseEntity<Response<ClientResponse>> result = restTemplate.exchange(
+                RequestEntity.get(URI.create(CLIENT_ENDPOINT.concat("?name=").concat(URLEncoder.encode(name, "UTF-8"))))
+                        .accept(MediaType.APPLICATION_JSON)
+                        .build(),
+                new ParameterizedTypeReference<Response<ClientResponse>>() {
+                });
+        //then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(expected, Objects.requireNonNull(result.getBody()).getContent().stream().map(ClientResponse::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void getClientsByName_WithPage_ShouldReturnPageOfClientsInWordOrder() throws UnsupportedEncodingException {
+        //given
+        final String name = "Jane Doe";
+        List<Client> clients = this.populateClients();
+        List<Long> expected = Stream.concat(clients.stream().filter(client -> client.getFullName().contains("jane")),
+                                            clients.stream().filter(client -> client.getFullName().contains("doe")))
+                                      .map(Client::getId)
+                                      .distinct()
+                                      .collect(Collectors.toList());
+        //when
+        ResponseEntity<Response<ClientResponse>> result = restTemplate.exchange(
+                RequestEntity.get(URI.create(CLIENT_ENDPOINT.concat("?page=0&size=1&name=").concat(URLEncoder.encode(name, "UTF-8"))))
+                        .accept(MediaType.APPLICATION_JSON)
+                        .build(),
+                new ParameterizedTypeReference<Response<ClientResponse>>() {
+                });
+        //then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(expected.subList(0, 1), Objects.requireNonNull(result.getBody()).getContent().stream().map(ClientResponse::getId).collect(Collectors.toList()));
+        assertEquals(expected.size(), result.getBody().getTotalElements());
+        assertEquals(expected.size(), result.getBody().getTotalPages());
+    }
+
+    @Test
+    void getClientsByCursor_ShouldWalkAllClientsInIdOrder() {
+        //given
+        List<Long> expected = this.populateClients().stream().map(Client::getId).sorted().collect(Collectors.toList());
+        List<Long> listed = new ArrayList<>();
+        String next = null;
+        int slices = 0;
+        //when
+        do {
+            String uri = CLIENT_ENDPOINT.concat("/cursor?limit=3").concat(next == null ? "" : "&after=".concat(next));
+            ResponseEntity<Response<ClientResponse>> result = restTemplate.exchange(
+                    RequestEntity.get(URI.create(uri)).accept(MediaType.APPLICATION_JSON).build(),
+                    new ParameterizedTypeReference<Response<ClientResponse>>() {
+                    });
+            assertEquals(HttpStatus.OK, result.getStatusCode());
+            Objects.requireNonNull(result.getBody()).getContent().stream().map(ClientResponse::getId).forEach(listed::add);
+            next = result.getBody().getNext();
+            slices++;
+        } while (next != null);
+        //then
+        assertEquals(expected, listed);
+        assertEquals(2, slices);
+    }
+
+    @Test
+    void getClientsByCursor_ShouldReturnBusinessError() {
+        //given
+        String errorMessage = MessageUtils.getMessage("client.cursor.invalid");
+        //when
+        ResponseEntity<Response<ResponseContent>> result = restTemplate.exchange(
+                RequestEntity.get(URI.create(CLIENT_ENDPOINT.concat("/cursor?after=invalid"))).accept(MediaType.APPLICATION_JSON).build(),
+                new ParameterizedTypeReference<Response<ResponseContent>>() {
+                });
+        //then
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        assertTrue(Objects.requireNonNull(Objects.requireNonNull(result.getBody()).getContent()).stream()
+                           .allMatch(resp -> errorMessage.equals(resp.getErrorMessage().getMessage())));
+    }
+
+    @Test
+    void exportClients_ShouldStreamAllClientsAsNdjson() throws IOException {
+        //given
+        List<Long> expected = this.populateClients().stream().map(Client::getId).sorted().collect(Collectors.toList());
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        //when
+        ResponseEntity<String> result = restTemplate.exchange(
+                RequestEntity.get(URI.create(CLIENT_ENDPOINT.concat("/export"))).accept(MediaType.parseMediaType("application/x-ndjson")).build(),
+                String.class);
+        //then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        List<String> lines = Arrays.asList(Objects.requireNonNull(result.getBody()).split("\n"));
+        List<Long> exported = new ArrayList<>();
+        for (String line : lines) {
+            exported.add(mapper.readValue(line, ClientResponse.class).getId());
+        }
+        assertEquals(expected, exported);
+        assertTrue(result.getBody().endsWith("\n"));
+    }
+
     @Test
     void getClientById_ShouldReturnTheClientWithTheSameId() {
         //given
@@ -271,6 +520,96 @@ class ClientControllerIT {
                            .allMatch(client -> client.equals(clientResponse)));
     }
 
+    @Test
+    void getClientById_AfterNameUpdate_ShouldReturnNewName() {
+        //given
+        final ClientNameRequest clientNameRequest = new ClientNameRequest("Jing Dong");
+        final URI uri = URI.create(CLIENT_ENDPOINT.concat("/").concat(String.valueOf(this.populateClients().get(0).getId())));
+        restTemplate.exchange(RequestEntity.get(uri).accept(MediaType.APPLICATION_JSON).build(), new ParameterizedTypeReference<Response<ClientResponse>>() {
+        });
+        restTemplate.exchange(RequestEntity.patch(uri).contentType(MediaType.APPLICATION_JSON).body(clientNameRequest),
+                              new ParameterizedTypeReference<Response<ClientResponse>>() {
+                              });
+        //when
+        ResponseEntity<Response<ClientResponse>> result = restTemplate.exchange(RequestEntity.get(uri).accept(MediaType.APPLICATION_JSON).build(),
+                                                                                new ParameterizedTypeReference<Response<ClientResponse>>() {
+                                                                                });
+        //then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertTrue(Objects.requireNonNull(result.getBody()).getContent().stream()
+                           .allMatch(resp -> clientNameRequest.getName().equalsIgnoreCase(resp.getName())));
+    }
+
+    @Test
+    void getClientById_AfterRemoval_ShouldReturnBusinessError() {
+        //given
+        final URI uri = URI.create(CLIENT_ENDPOINT.concat("/").concat(String.valueOf(this.populateClients().get(0).getId())));
+        String errorMessage = MessageUtils.getMessage("client.search.id.not-found");
+        restTemplate.exchange(RequestEntity.get(uri).accept(MediaType.APPLICATION_JSON).build(), new ParameterizedTypeReference<Response<ClientResponse>>() {
+        });
+        restTemplate.exchange(RequestEntity.delete(uri).accept(MediaType.APPLICATION_JSON).build(), new ParameterizedTypeReference<Response<ResponseContent>>() {
+        });
+        //when
+        ResponseEntity<Response<ResponseContent>> result = restTemplate.exchange(RequestEntity.get(uri).accept(MediaType.APPLICATION_JSON).build(),
+                                                                                 new ParameterizedTypeReference<Response<ResponseContent>>() {
+                                                                                 });
+        //then
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+        assertTrue(Objects.requireNonNull(Objects.requireNonNull(result.getBody()).getContent()).stream()
+                           .allMatch(resp -> errorMessage.equals(resp.getErrorMessage().getMessage())));
+    }
+
+    @Test
+    void deleteClients_ShouldRemoveClientsAndInvalidateCache() {
+        //given
+        List<Client> clients = this.populateClients();
+        final List<Long> ids = Arrays.asList(clients.get(0).getId(), clients.get(1).getId(), Long.MAX_VALUE);
+        final URI uri = URI.create(CLIENT_ENDPOINT.concat("/").concat(String.valueOf(clients.get(0).getId())));
+        restTemplate.exchange(RequestEntity.get(uri).accept(MediaType.APPLICATION_JSON).build(), new ParameterizedTypeReference<Response<ClientResponse>>() {
+        });
+        //when
+        ResponseEntity<Response<ClientBulkDeleteResponse>> result = restTemplate.exchange(
+                RequestEntity.post(URI.create(CLIENT_ENDPOINT.concat("/bulk-delete")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(ids),
+                new ParameterizedTypeReference<Response<ClientBulkDeleteResponse>>() {
+                });
+        //then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        ClientBulkDeleteResponse summary = Objects.requireNonNull(result.getBody()).getContent().get(0);
+        assertEquals(3, summary.getRequested());
+        assertEquals(2, summary.getRemoved());
+        assertEquals(clients.size() - 2, this.clientRepository.count());
+        ResponseEntity<Response<ResponseContent>> removed = restTemplate.exchange(RequestEntity.get(uri).accept(MediaType.APPLICATION_JSON).build(),
+                                                                                  new ParameterizedTypeReference<Response<ResponseContent>>() {
+                                                                                  });
+        assertEquals(HttpStatus.BAD_REQUEST, removed.getStatusCode());
+    }
+
+    @Test
+    void deleteClients_WithRepeatedAndUnknownIds_ShouldCountAndNotifyOnlyRemoved() {
+        //given
+        List<Client> clients = this.populateClients();
+        final long unknown = clients.stream().mapToLong(Client::getId).max().orElse(0) + 1_000;
+        this.clientIdFilter.add(unknown);
+        final List<Long> ids = Arrays.asList(clients.get(0).getId(), clients.get(0).getId(), null, unknown);
+        //when
+        ResponseEntity<Response<ClientBulkDeleteResponse>> result = restTemplate.exchange(
+                RequestEntity.post(URI.create(CLIENT_ENDPOINT.concat("/bulk-delete")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(ids),
+                new ParameterizedTypeReference<Response<ClientBulkDeleteResponse>>() {
+                });
+        //then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        ClientBulkDeleteResponse summary = Objects.requireNonNull(result.getBody()).getContent().get(0);
+        assertEquals(2, summary.getRequested());
+        assertEquals(1, summary.getRemoved());
+        assertFalse(this.clientIdFilter.mightContain(clients.get(0).getId()));
+        assertTrue(this.clientIdFilter.mightContain(unknown));
+        this.clientIdFilter.remove(unknown);
+    }
+
     @Test
     void getClientById_ShouldReturnBusinessError() {
         //given
@@ -0,0 +1,28 @@
+package com.eduardomallmann.compasso.technicaltest.domains.client;
+
+import com.eduardomallmann.compasso.technicaltest.exceptions.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ActiveProfiles("test")
+class ClientCursorTest {
+
+    @Test
+    void decode_ShouldReturnIdEncoded() throws BusinessException {
+        //given
+        String token = ClientCursor.encode(1234L);
+        //when
+        long result = ClientCursor.decode(token);
+        //then
+        assertEquals(1234L, result);
+    }
+
+    @Test
+    void decode_WithoutToken_ShouldStartFromTheBeginning() throws BusinessException {
+        //then
+        assertEquals(Long.MIN_VALUE, ClientCursor.decode(null));
+        assertEquals(Long.MIN_VALUE, ClientCursor.decode(" "));
+    }
+}
@@ -0,0 +1,68 @@
+package com.eduardomallmann.compasso.technicaltest.domains.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ActiveProfiles("test")
+class ClientIdFilterTest {
+
+    private ClientIdFilter clientIdFilter;
+
+    @BeforeEach
+    void setUp() {
+        this.clientIdFilter = new ClientIdFilter(128);
+    }
+
+    @Test
+    void mightContain_BeforeLoaded_ShouldReturnTrue() {
+        //then
+        assertTrue(this.clientIdFilter.mightContain(5L));
+    }
+
+    @Test
+    void mightContain_ShouldFollowAddedAndRemovedIds() {
+        //given
+        this.clientIdFilter.add(1L);
+        this.clientIdFilter.add(64L);
+        this.clientIdFilter.add(65L);
+        this.clientIdFilter.markLoaded();
+        //when
+        this.clientIdFilter.remove(64L);
+        //then
+        assertTrue(this.clientIdFilter.mightContain(1L));
+        assertTrue(this.clientIdFilter.mightContain(65L));
+        assertFalse(this.clientIdFilter.mightContain(64L));
+        assertFalse(this.clientIdFilter.mightContain(2L));
+    }
+
+    @Test
+    void mightContain_WithIdOutOfCapacity_ShouldReturnTrue() {
+        //given
+        this.clientIdFilter.markLoaded();
+        //then
+        assertTrue(this.clientIdFilter.mightContain(128L));
+        assertTrue(this.clientIdFilter.mightContain(-1L));
+    }
+
+    @Test
+    void onClientEvents_ShouldAddAndRemoveIds() {
+        //given
+        final Client client = new Client("john doe", "male", LocalDate.of(1980, 1, 2), null);
+        client.setId(10L);
+        this.clientIdFilter.markLoaded();
+        //when
+        this.clientIdFilter.onClientSaved(new ClientEvent(client, ClientEvent.Type.SAVED));
+        //then
+        assertTrue(this.clientIdFilter.mightContain(10L));
+        //when
+        this.clientIdFilter.onClientRemoved(new ClientEvent(client, ClientEvent.Type.REMOVED));
+        //then
+        assertFalse(this.clientIdFilter.mightContain(10L));
+    }
+}
@@ -0,0 +1,174 @@
+package com.eduardomallmann.compasso.technicaltest.domains.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ActiveProfiles("test")
+class ClientNameIndexTest {
+
+    private ClientNameIndex clientNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        this.clientNameIndex = new ClientNameIndex();
+        this.clientNameIndex.put(1L, "john doe");
+        this.clientNameIndex.put(2L, "jane doe");
+        this.clientNameIndex.put(3L, "mary jane");
+        this.clientNameIndex.put(4L, "coke cola");
+        this.clientNameIndex.markLoaded();
+    }
+
+    @Test
+    void findAllByFullNameLike_ShouldReturnIdsInWordOrder() {
+        //when
+        long[] result = this.clientNameIndex.findAllByFullNameLike(Arrays.asList("jane", "doe"));
+        //then
+        assertArrayEquals(new long[]{2L, 3L, 1L}, result);
+    }
+
+    @Test
+    void findAllByFullNameLike_WithPartialWord_ShouldReturnIdsFound() {
+        //when
+        long[] result = this.clientNameIndex.findAllByFullNameLike(Collections.singletonList("o"));
+        //then
+        assertArrayEquals(new long[]{1L, 2L, 4L}, result);
+    }
+
+    @Test
+    void put_WithNameChanged_ShouldReplaceWords() {
+        //when
+        this.clientNameIndex.put(1L, "john smith");
+        this.clientNameIndex.remove(4L);
+        //then
+        assertArrayEquals(new long[]{2L}, this.clientNameIndex.findAllByFullNameLike(Collections.singletonList("doe")));
+        assertArrayEquals(new long[]{1L}, this.clientNameIndex.findAllByFullNameLike(Collections.singletonList("smi")));
+        assertArrayEquals(new long[0], this.clientNameIndex.findAllByFullNameLike(Collections.singletonList("cola")));
+    }
+
+    @Test
+    void supports_ShouldRejectEmptyWordsAndWildcards() {
+        //then
+        assertTrue(this.clientNameIndex.supports(Arrays.asList("jane", "doe")));
+        assertFalse(this.clientNameIndex.supports(Arrays.asList("jane", "")));
+        assertFalse(this.clientNameIndex.supports(Collections.singletonList("j_ne")));
+        assertFalse(new ClientNameIndex().supports(Collections.singletonList("jane")));
+    }
+
+    @Test
+    void put_WithManyIdsOutOfOrder_ShouldKeepThemSorted() {
+        //given
+        TreeSet<Long> expected = new TreeSet<>();
+        Random random = new Random(42);
+        //when
+        for (int i = 0; i < ClientNameIndex.CHUNK_SIZE * 8; i++) {
+            long id = 100L + random.nextInt(ClientNameIndex.CHUNK_SIZE * 16);
+            if (random.nextInt(4) == 0) {
+                this.clientNameIndex.remove(id);
+                expected.remove(id);
+            } else {
+                this.clientNameIndex.put(id, "ana da silva");
+                expected.add(id);
+            }
+        }
+        //then
+        long[] result = this.clientNameIndex.findAllByFullNameLike(Collections.singletonList("silva"));
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), result);
+    }
+
+    @Test
+    void putAll_ThenPut_ShouldAppendAndInsertIds() {
+        //given
+        List<ClientRepository.FullNameView> page = new ArrayList<>();
+        LongStream.rangeClosed(10L, 10L + ClientNameIndex.CHUNK_SIZE * 3).forEach(id -> page.add(view(id, "maria souza")));
+        //when
+        this.clientNameIndex.putAll(page);
+        this.clientNameIndex.putAll(Collections.singletonList(view(10L, "other name")));
+        this.clientNameIndex.put(5L, "pedro souza");
+        this.clientNameIndex.remove(11L);
+        //then
+        long[] result = this.clientNameIndex.findAllByFullNameLike(Collections.singletonList("souza"));
+        assertEquals(ClientNameIndex.CHUNK_SIZE * 3 + 1, result.length);
+        assertEquals(5L, result[0]);
+        assertEquals(10L, result[1]);
+        assertEquals(12L, result[2]);
+        assertArrayEquals(new long[0], this.clientNameIndex.findAllByFullNameLike(Collections.singletonList("other")));
+    }
+
+    @Test
+    void findAllByFullNameLike_WithShortAndLongWords_ShouldMatchSubstrings() {
+        //when
+        long[] shortWord = this.clientNameIndex.findAllByFullNameLike(Collections.singletonList("an"));
+        long[] longWord = this.clientNameIndex.findAllByFullNameLike(Collections.singletonList("ohn"));
+        long[] missing = this.clientNameIndex.findAllByFullNameLike(Collections.singletonList("janes"));
+        //then
+        assertArrayEquals(new long[]{2L, 3L}, shortWord);
+        assertArrayEquals(new long[]{1L}, longWord);
+        assertArrayEquals(new long[0], missing);
+    }
+
+    @Test
+    void put_WithConcurrentWrites_ShouldKeepIndexConsistent() throws Exception {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        //when
+        for (int thread = 0; thread < 8; thread++) {
+            final long first = 1_000L + thread * 10_000L;
+            futures.add(executor.submit(() -> {
+                for (long id = first; id < first + 2_000; id++) {
+                    this.clientNameIndex.put(id, "carla dos santos");
+                    if (id % 2 == 0) {
+                        this.clientNameIndex.put(id, "carla ferreira");
+                    }
+                    if (id % 3 == 0) {
+                        this.clientNameIndex.remove(id);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        //then
+        long[] santos = this.clientNameIndex.findAllByFullNameLike(Collections.singletonList("santos"));
+        long[] ferreira = this.clientNameIndex.findAllByFullNameLike(Collections.singletonList("ferreira"));
+        assertTrue(Arrays.stream(santos).allMatch(id -> id % 2 != 0 && id % 3 != 0));
+        assertTrue(Arrays.stream(ferreira).allMatch(id -> id % 2 == 0 && id % 3 != 0));
+        long expected = LongStream.range(0, 8).flatMap(thread -> LongStream.range(1_000L + thread * 10_000L, 3_000L + thread * 10_000L))
+                                .filter(id -> id % 3 != 0)
+                                .count();
+        assertEquals(expected, santos.length + ferreira.length);
+    }
+
+    private static ClientRepository.FullNameView view(final long id, final String fullName) {
+        return new ClientRepository.FullNameView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getFullName() {
+                return fullName;
+            }
+        };
+    }
+}
@@ -69,6 +69,51 @@ class BuilderTest {
         assertNull(testBuilder.varTwo);
     }
 
+    @Test
+    public void create_twice_returns_new_instances() {
+        //when
+        ResponseContent first = Builder.create(ResponseContent.class, "first", new ErrorMessage()).build();
+        ResponseContent second = Builder.create(ResponseContent.class, "second", new ErrorMessage()).build();
+        Response<String> response = Builder.create(Response.class).build();
+        //then
+        assertNotSame(first, second);
+        assertEquals("first", first.getStatus());
+        assertEquals("second", second.getStatus());
+        assertNotNull(response);
+        assertNotSame(response, Builder.create(Response.class).build());
+    }
 
+    @Test
+    public void create_without_matching_constructor() {
+        //when
+        ResponseContent result = Builder.create(ResponseContent.class, 1L, 2L, 3L).build();
+        //then
+        assertNull(result);
+    }
 
-}
\ No newline at end of file
+    @Test
+    public void create_with_failing_constructor() {
+        //when
+        Failing result = Builder.create(Failing.class, "exception").build();
+        //then
+        assertNull(result);
+    }
+
+    @Test
+    public void create_with_constructor_error() {
+        //when
+        //then
+        assertThrows(AssertionError.class, () -> Builder.create(Failing.class, 1).build());
+    }
+
+    static class Failing {
+
+        Failing(final String message) {
+            throw new IllegalStateException(message);
+        }
+
+        Failing(final Integer code) {
+            throw new AssertionError(code);
+        }
+    }
+}
@@ -1,9 +1,17 @@
 package com.eduardomallmann.compasso.technicaltest.utils;
 
 import com.eduardomallmann.compasso.technicaltest.domains.city.CityDTO;
+import com.eduardomallmann.compasso.technicaltest.domains.client.dto.ClientRequest;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Supplier;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @ActiveProfiles("test")
@@ -31,4 +39,100 @@ class GenericDTOTest {
         assertEquals(response, result);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void toJson_WithLocalDate_ShouldWriteIsoDate() {
+        //given
+        ClientRequest client = new ClientRequest("John Doe", null, LocalDate.of(1980, 2, 1), null, null);
+        //when
+        final String result = client.toJson();
+        //then
+        assertNotNull(result);
+        assertTrue(result.contains("\"birthday\":\"1980-02-01\""));
+    }
+
+    @Test
+    public void toLazyJson_ShouldRenderJsonOnDemand() {
+        //given
+        CityDTO city = new CityDTO("Florianópolis", "Santa Catarina");
+        //when
+        final Object result = city.toLazyJson();
+        //then
+        assertEquals(city.toJson(), result.toString());
+    }
+
+    @Test
+    public void normalizeField_WithRandomFields_ShouldMatchWordSplitNormalization() {
+        //given
+        final String alphabet = "dDaAeEoOsSjJxZ \t\n\r\u000B\fçÇãÃéÉôÔßÿµ\u00A0Σİıǅ";
+        final Random random = new Random(20200901L);
+        GenericDTO genericDTO = new GenericDTO();
+        for (int run = 0; run < 200_000; run++) {
+            final char[] chars = new char[random.nextInt(12)];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = alphabet.charAt(random.nextInt(run % 2 == 0 ? 22 : alphabet.length()));
+            }
+            final String field = new String(chars);
+            //when
+            final String expected = outcome(() -> legacyNormalizeField(field));
+            final String result = outcome(() -> genericDTO.normalizeField(field));
+            //then
+            assertEquals(expected, result, () -> "field: [" + field + "]");
+        }
+    }
+
+    @Test
+    public void normalizeField_WithTurkishLocale_ShouldMatchWordSplitNormalization() {
+        //given
+        final Locale locale = Locale.getDefault();
+        final String name = "maria da ilha dos indios";
+        GenericDTO genericDTO = new GenericDTO();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            //when
+            String result = genericDTO.normalizeField(name);
+            //then
+            assertEquals(legacyNormalizeField(name), result);
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+
+    private static String outcome(final Supplier<String> normalization) {
+        try {
+            return normalization.get();
+        } catch (RuntimeException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    /**
+     * Word split normalization, as written before the single pass one.
+     */
+    private static String legacyNormalizeField(final String field) {
+        final List<String> vowels = Arrays.asList("a", "e", "o");
+        final String[] words = field.split("\\s");
+        StringBuilder normalizeField = new StringBuilder();
+        for (int i = 0; i < words.length; i++) {
+            String word = words[i];
+            if (i == 0) {
+                normalizeField
+                        .append(word.substring(0, 1).toUpperCase())
+                        .append(word.substring(1).toLowerCase());
+            } else {
+                if ((word.length() <= 3 && word.length() > 1)
+                            && (word.toLowerCase().startsWith("d") && vowels.contains(word.substring(1, 2)) && (word.length() == 2 || word.endsWith("s")))
+                            && i != words.length - 1) {
+                    normalizeField
+                            .append(" ")
+                            .append(word.toLowerCase());
+                } else {
+                    normalizeField
+                            .append(" ")
+                            .append(word.substring(0, 1).toUpperCase())
+                            .append(word.substring(1).toLowerCase());
+                }
+            }
+        }
+        return normalizeField.toString();
+    }
+}
@@ -0,0 +1,50 @@
+package com.eduardomallmann.compasso.technicaltest.utils;
+
+import com.eduardomallmann.compasso.technicaltest.domains.city.City;
+import com.eduardomallmann.compasso.technicaltest.domains.city.CityRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class HiLoSequenceVerifierIT {
+
+    @Autowired
+    private HiLoSequenceVerifier hiLoSequenceVerifier;
+
+    @Autowired
+    private CityRepository cityRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        this.cityRepository.deleteAll();
+    }
+
+    @Test
+    void verify_WithIdentifiersBelowNextBlock_ShouldPass() {
+        //given
+        this.cityRepository.save(new City("joinville", "santa catarina"));
+        //when
+        //then
+        assertDoesNotThrow(() -> this.hiLoSequenceVerifier.verify("cities_id_seq", "cities"));
+    }
+
+    @Test
+    void verify_WithIdentifiersAboveNextBlock_ShouldFail() {
+        //given
+        this.jdbcTemplate.update("insert into cities (id, name, state) values (?, ?, ?)", 1_000_000_000L, "blumenau", "santa catarina");
+        //when
+        //then
+        assertThrows(IllegalStateException.class, () -> this.hiLoSequenceVerifier.verify("cities_id_seq", "cities"));
+    }
+}
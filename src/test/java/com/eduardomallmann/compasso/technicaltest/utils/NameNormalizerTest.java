@@ -0,0 +1,45 @@
+package com.eduardomallmann.compasso.technicaltest.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ActiveProfiles("test")
+class NameNormalizerTest {
+
+    @Test
+    void normalizeDisplay_WithExtraBlanks_ShouldCollapseThem() {
+        //given
+        String[] names = {"ana  maria", " ana maria", "ana\tmaria ", "  ana \t maria  "};
+        //when
+        //then
+        for (String name : names) {
+            assertEquals("Ana Maria", NameNormalizer.normalizeDisplay(name));
+        }
+    }
+
+    @Test
+    void normalizeDisplay_ShouldMatchNormalizeOnSingleBlanks() {
+        //given
+        String name = "maria das graças da silva";
+        //when
+        String result = NameNormalizer.normalizeDisplay(name);
+        //then
+        assertEquals(NameNormalizer.normalize(name), result);
+        assertEquals("Maria das Graças da Silva", result);
+    }
+
+    @Test
+    void normalizeDisplay_WithBlankOrNull_ShouldNotFail() {
+        //given
+        //when
+        //then
+        assertEquals("", NameNormalizer.normalizeDisplay(""));
+        assertEquals("", NameNormalizer.normalizeDisplay("   "));
+        assertNull(NameNormalizer.normalizeDisplay(null));
+        assertThrows(StringIndexOutOfBoundsException.class, () -> NameNormalizer.normalize("ana  maria"));
+    }
+}